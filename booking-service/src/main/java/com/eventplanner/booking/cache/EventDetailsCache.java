@@ -0,0 +1,94 @@
+package com.eventplanner.booking.cache;
+
+import com.eventplanner.booking.dto.EventResponse;
+import com.eventplanner.booking.exception.ServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Near-cache of event details fetched from event-catalog-service. Entries are fresh
+ * for {@code ttl}; concurrent misses for one event share a single in-flight call.
+ * A stale entry is revalidated on access, and served as-is if the catalog errors or
+ * does not answer within {@code revalidate-timeout}, up to {@code stale-ttl} old.
+ * Bookings only read status and price from here; seat availability is left to the
+ * catalog, which rejects a reservation it cannot fill.
+ */
+@Component
+@Slf4j
+public class EventDetailsCache {
+
+    private final Cache<String, CachedEvent> cache;
+    private final Map<String, Mono<EventResponse>> inflight = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final Duration revalidateTimeout;
+    private final Counter staleServed;
+
+    public EventDetailsCache(MeterRegistry meterRegistry,
+                             @Value("${booking.event-cache.max-size:10000}") long maxSize,
+                             @Value("${booking.event-cache.ttl:5s}") Duration ttl,
+                             @Value("${booking.event-cache.stale-ttl:5m}") Duration staleTtl,
+                             @Value("${booking.event-cache.revalidate-timeout:250ms}") Duration revalidateTimeout) {
+        this.ttlNanos = ttl.toNanos();
+        this.revalidateTimeout = revalidateTimeout;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(staleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "booking.events");
+        this.staleServed = Counter.builder("booking.events.stale")
+                .description("Event lookups answered from a stale cache entry")
+                .register(meterRegistry);
+    }
+
+    public Mono<EventResponse> get(String eventId, Function<String, Mono<EventResponse>> loader) {
+        CachedEvent cached = cache.getIfPresent(eventId);
+        if (cached == null) {
+            return load(eventId, loader);
+        }
+        if (System.nanoTime() - cached.loadedAt() < ttlNanos) {
+            return Mono.just(cached.event());
+        }
+        // The shared load keeps running after a timeout and refreshes the entry
+        return load(eventId, loader)
+                .timeout(revalidateTimeout, Mono.fromSupplier(() -> stale(cached)))
+                .onErrorResume(ServiceUnavailableException.class, e -> {
+                    log.warn("Serving cached event {} after failed refresh: {}", eventId, e.getMessage());
+                    return Mono.just(stale(cached));
+                });
+    }
+
+    public void put(EventResponse event) {
+        cache.put(event.getId(), new CachedEvent(event, System.nanoTime()));
+    }
+
+    public void invalidate(String eventId) {
+        cache.invalidate(eventId);
+    }
+
+    private Mono<EventResponse> load(String eventId, Function<String, Mono<EventResponse>> loader) {
+        return inflight.computeIfAbsent(eventId, id -> loader.apply(id)
+                .doOnNext(this::put)
+                .doFinally(signal -> inflight.remove(id))
+                .cache());
+    }
+
+    private EventResponse stale(CachedEvent cached) {
+        staleServed.increment();
+        return cached.event();
+    }
+
+    private record CachedEvent(EventResponse event, long loadedAt) {}
+}
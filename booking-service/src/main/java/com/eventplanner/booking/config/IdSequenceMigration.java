@@ -0,0 +1,46 @@
+package com.eventplanner.booking.config;
+
+import com.eventplanner.booking.model.Booking;
+import com.eventplanner.booking.model.SeatOutboxMessage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tables created while ids came from identity columns already hold rows, so the id
+ * sequences that replaced them are moved past the highest existing id before the
+ * first insert. A sequence that is already ahead is left alone.
+ */
+@Component
+// Schema update has created the sequences once the entity manager factory exists
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void alignSequences() {
+        align(Booking.ID_SEQUENCE, "bookings", Booking.ID_ALLOCATION_SIZE);
+        align(SeatOutboxMessage.ID_SEQUENCE, "seat_outbox", SeatOutboxMessage.ID_ALLOCATION_SIZE);
+    }
+
+    private void align(String sequence, String table, int allocationSize) {
+        try {
+            long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+            if (maxId > 0 && lastValue < maxId + allocationSize) {
+                jdbcTemplate.queryForObject("SELECT setval(CAST(? AS regclass), ?)", Long.class, sequence, maxId + allocationSize);
+                log.info("Moved sequence {} past existing {} ids (max id {})", sequence, table, maxId);
+            }
+        } catch (DataAccessException e) {
+            // Starting with the sequence behind existing ids would fail every insert with a duplicate key
+            throw new IllegalStateException("Failed to align sequence " + sequence + " with " + table, e);
+        }
+    }
+}
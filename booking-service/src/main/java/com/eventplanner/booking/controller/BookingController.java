@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import java.util.List;
 import java.util.Map;
 
@@ -21,9 +22,15 @@ public class BookingController {
 
 
     @PostMapping
-    public ResponseEntity<BookingResponse> createBooking(@Valid @RequestBody BookingRequest request) {
-        BookingResponse booking = bookingService.createBooking(request);
-        return new ResponseEntity<>(booking, HttpStatus.CREATED);
+    public Mono<ResponseEntity<BookingResponse>> createBooking(@Valid @RequestBody BookingRequest request) {
+        return bookingService.createBooking(request)
+                .map(booking -> new ResponseEntity<>(booking, HttpStatus.CREATED));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<BatchBookingResponse>> createBookings(@Valid @RequestBody BatchBookingRequest request) {
+        return bookingService.createBookings(request.getBookings())
+                .map(ResponseEntity::ok);
     }
 
     @GetMapping("/{id}")
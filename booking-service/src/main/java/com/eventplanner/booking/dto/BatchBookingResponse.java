@@ -0,0 +1,18 @@
+package com.eventplanner.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchBookingResponse {
+    private int created;
+    private int failed;
+    private List<BatchBookingResult> results;
+}
@@ -0,0 +1,19 @@
+package com.eventplanner.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatBatchRequest {
+    private List<Integer> requests;
+    private List<String> requestIds;
+
+    public SeatBatchRequest(List<Integer> requests) {
+        this.requests = requests;
+    }
+}
@@ -0,0 +1,21 @@
+package com.eventplanner.booking.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SeatBatchResponse {
+    private int reserved;
+    private int rejected;
+    private List<Result> results;
+    private EventResponse event;
+
+    @Data
+    public static class Result {
+        private int index;
+        private int seats;
+        private String status;
+        private String holdId;
+    }
+}
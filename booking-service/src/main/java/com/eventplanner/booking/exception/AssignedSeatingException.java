@@ -0,0 +1,8 @@
+package com.eventplanner.booking.exception;
+
+// The catalog refuses general-admission seat changes for events sold by seat map
+public class AssignedSeatingException extends RuntimeException {
+    public AssignedSeatingException(String eventId) {
+        super("Event " + eventId + " uses assigned seating, claim seats through /api/events/" + eventId + "/seatmap/claims");
+    }
+}
\ No newline at end of file
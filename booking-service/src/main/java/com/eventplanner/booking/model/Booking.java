@@ -15,9 +15,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Booking {
+    public static final String ID_SEQUENCE = "booking_seq";
+    // Ids are handed out in blocks so inserts can be JDBC-batched
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     //database sütunları
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(name = "user_id", nullable = false)
@@ -38,6 +43,10 @@ public class Booking {
     
     @Column(name = "payment_id")
     private String paymentId;
+
+    // Set when the event catalog holds the seats until payment
+    @Column(name = "hold_id")
+    private String holdId;
     
     @Column(name = "booking_date", nullable = false, updatable = false)
     private LocalDateTime bookingDate;
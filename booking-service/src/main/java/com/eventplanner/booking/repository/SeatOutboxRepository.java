@@ -0,0 +1,39 @@
+package com.eventplanner.booking.repository;
+
+import com.eventplanner.booking.model.SeatOutboxMessage;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SeatOutboxRepository extends JpaRepository<SeatOutboxMessage, Long> {
+    @Query("select m from SeatOutboxMessage m where m.nextAttemptAt <= :now"
+            + " and (m.claimedUntil is null or m.claimedUntil < :now) order by m.createdAt, m.id")
+    List<SeatOutboxMessage> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    Optional<SeatOutboxMessage> findFirstByOrderByCreatedAtAsc();
+
+    boolean existsByBookingId(Long bookingId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<SeatOutboxMessage> findAllByIdIn(Collection<Long> ids);
+
+    // A message that was ever sent may have taken seats, so the relay settles it instead
+    @Modifying
+    @Query("delete from SeatOutboxMessage m where m.bookingId = :bookingId and m.attempts = 0 and m.claimedUntil is null")
+    int deleteUnsentByBookingId(@Param("bookingId") Long bookingId);
+
+    // Held until the surrounding transaction ends, so only one instance relays at a time
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryRelayLock(@Param("key") long key);
+}
@@ -1,108 +1,383 @@
 package com.eventplanner.booking.service;
 
+import com.eventplanner.booking.cache.EventDetailsCache;
 import com.eventplanner.booking.dto.*;
+import com.eventplanner.booking.exception.AssignedSeatingException;
+import com.eventplanner.booking.exception.BookingConflictException;
 import com.eventplanner.booking.exception.InsufficientSeatsException;
 import com.eventplanner.booking.exception.ResourceNotFoundException;
+import com.eventplanner.booking.exception.SeatHoldExpiredException;
 import com.eventplanner.booking.exception.ServiceUnavailableException;
 import com.eventplanner.booking.model.Booking;
+import com.eventplanner.booking.model.SeatOutboxMessage;
 import com.eventplanner.booking.repository.BookingRepository;
+import com.eventplanner.booking.repository.SeatOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BookingService {
+    private static final String SEAT_HOLD_HEADER = "X-Seat-Hold-Id";
+    private static final String OUTBOX_MODE = "outbox";
+
     private final BookingRepository bookingRepository;
     private final WebClient eventServiceClient;
+    private final EventDetailsCache eventDetailsCache;
+    private final SeatReservationBatcher seatReservationBatcher;
+    private final SeatOutboxRepository seatOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${booking.seat-updates.mode:direct}")
+    private String seatUpdateMode;
 
-    @Transactional
-    public BookingResponse createBooking(BookingRequest request) {
+    /**
+     * Validates the event and reserves its seats before the booking row is written, so
+     * the only work done while holding a database connection is the insert itself.
+     * If the insert fails the reserved seats are handed back to the catalog.
+     */
+    public Mono<BookingResponse> createBooking(BookingRequest request) {
         // 1. event servis cagir
         log.info("Fetching event details for eventId: {}", request.getEventId());
-        EventResponse event = getEventFromService(request.getEventId());
+        return getEventFromService(request.getEventId())
+                .flatMap(event -> {
+                    // 2. kontrol et
+                    if (!"PUBLISHED".equals(event.getStatus())) {
+                        return Mono.error(new IllegalStateException(
+                                "Event is not available for booking. Status: " + event.getStatus()));
+                    }
+
+                    // 4. fiyat belirleme
+                    Booking booking = Booking.builder()
+                            .userId(request.getUserId())
+                            .eventId(request.getEventId())
+                            .numberOfTickets(request.getNumberOfTickets())
+                            .totalAmount(event.getPrice() * request.getNumberOfTickets())
+                            .status(Booking.BookingStatus.PENDING)
+                            .build();
+
+                    // Outbox modunda koltuklar relay ile ayrilir
+                    if (OUTBOX_MODE.equals(seatUpdateMode)) {
+                        return saveBookingWithOutbox(booking);
+                    }
+
+                    // 5. event servicede koltuk ayirma
+                    return updateEventSeats(request.getEventId(), request.getNumberOfTickets())
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty())
+                            .flatMap(holdId -> {
+                                booking.setHoldId(holdId.orElse(null));
+                                // 6. booking olusturma
+                                return saveBooking(booking)
+                                        .onErrorResume(e -> releaseSeats(booking).then(Mono.error(e)));
+                            });
+                })
+                .map(this::convertToResponse);
+    }
 
-        // 2. kontrol et
+    /**
+     * Creates many bookings in one call. Each event is looked up once, seats are reserved
+     * with one batch call per event (or queued in the outbox), and the accepted bookings
+     * are inserted in a single JDBC-batched transaction. Items fail individually.
+     */
+    public Mono<BatchBookingResponse> createBookings(List<BookingRequest> requests) {
+        BatchBookingResult[] results = new BatchBookingResult[requests.size()];
+        List<String> eventIds = requests.stream().map(BookingRequest::getEventId).distinct().toList();
+
+        return Flux.fromIterable(eventIds)
+                .flatMap(eventId -> getEventFromService(eventId)
+                        .map(event -> new EventLookup(eventId, event, null))
+                        .onErrorResume(e -> Mono.just(new EventLookup(eventId, null, e.getMessage()))))
+                .collectMap(EventLookup::eventId)
+                .flatMap(lookups -> {
+                    Map<String, List<Candidate>> byEvent = new LinkedHashMap<>();
+                    for (int i = 0; i < requests.size(); i++) {
+                        BookingRequest request = requests.get(i);
+                        EventLookup lookup = lookups.get(request.getEventId());
+                        String error = lookup.error() != null ? lookup.error() : validate(lookup.event());
+                        if (error != null) {
+                            results[i] = new BatchBookingResult(i, BatchBookingResult.FAILED, null, error);
+                            continue;
+                        }
+                        Booking booking = Booking.builder()
+                                .userId(request.getUserId())
+                                .eventId(request.getEventId())
+                                .numberOfTickets(request.getNumberOfTickets())
+                                .totalAmount(lookup.event().getPrice() * request.getNumberOfTickets())
+                                .status(Booking.BookingStatus.PENDING)
+                                .build();
+                        byEvent.computeIfAbsent(request.getEventId(), id -> new ArrayList<>()).add(new Candidate(i, booking));
+                    }
+
+                    if (OUTBOX_MODE.equals(seatUpdateMode)) {
+                        return saveBookingsWithOutbox(byEvent.values().stream().flatMap(List::stream).toList(), results);
+                    }
+                    return Flux.fromIterable(byEvent.entrySet())
+                            .flatMap(entry -> reserveSeatsBatch(entry.getKey(), entry.getValue(), results))
+                            .flatMapIterable(accepted -> accepted)
+                            .collectList()
+                            .flatMap(accepted -> saveBookings(accepted, results));
+                })
+                .map(created -> {
+                    created.forEach(candidate -> results[candidate.index()] = new BatchBookingResult(
+                            candidate.index(), BatchBookingResult.CREATED, convertToResponse(candidate.booking()), null));
+                    log.info("Batch created {} of {} bookings", created.size(), requests.size());
+                    return BatchBookingResponse.builder()
+                            .created(created.size())
+                            .failed(requests.size() - created.size())
+                            .results(List.of(results))
+                            .build();
+                });
+    }
+
+    private String validate(EventResponse event) {
         if (!"PUBLISHED".equals(event.getStatus())) {
-            throw new IllegalStateException("Event is not available for booking. Status: " + event.getStatus());
+            return "Event is not available for booking. Status: " + event.getStatus();
         }
+        return null;
+    }
+
+    // Completes with the candidates the catalog reserved seats for; the rest are recorded as failed
+    private Mono<List<Candidate>> reserveSeatsBatch(String eventId, List<Candidate> candidates,
+                                                    BatchBookingResult[] results) {
+        SeatBatchRequest request = new SeatBatchRequest(
+                candidates.stream().map(c -> c.booking().getNumberOfTickets()).toList());
+        return eventServiceClient.post()
+                .uri("/api/events/" + eventId + "/seats/batch")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(SeatBatchResponse.class)
+                .timeout(Duration.ofSeconds(5))
+                .map(response -> {
+                    if (response.getEvent() != null) {
+                        eventDetailsCache.put(response.getEvent());
+                    }
+                    List<Candidate> accepted = new ArrayList<>();
+                    for (SeatBatchResponse.Result result : response.getResults()) {
+                        Candidate candidate = candidates.get(result.getIndex());
+                        if ("RESERVED".equals(result.getStatus())) {
+                            candidate.booking().setHoldId(result.getHoldId());
+                            accepted.add(candidate);
+                        } else {
+                            results[candidate.index()] = new BatchBookingResult(candidate.index(), BatchBookingResult.FAILED,
+                                    null, String.format("Insufficient seats. Requested: %d", result.getSeats()));
+                        }
+                    }
+                    return accepted;
+                })
+                .onErrorResume(e -> {
+                    log.error("Failed to reserve seats for event {}: {}", eventId, e.getMessage());
+                    String error = e instanceof WebClientResponseException.NotFound
+                            ? "Event not found with id: " + eventId
+                            : e instanceof WebClientResponseException.BadRequest
+                            ? new AssignedSeatingException(eventId).getMessage()
+                            : "Unable to reserve seats for event: " + eventId;
+                    candidates.forEach(c -> results[c.index()] =
+                            new BatchBookingResult(c.index(), BatchBookingResult.FAILED, null, error));
+                    return Mono.just(List.of());
+                });
+    }
 
-        // 3. yer varmi bak
-        if (event.getAvailableSeats() < request.getNumberOfTickets()) {
-            throw new InsufficientSeatsException(
-                    String.format("Insufficient seats. Requested: %d, Available: %d",
-                            request.getNumberOfTickets(), event.getAvailableSeats())
-            );
+    // If the insert fails the reserved seats are handed back and every candidate is reported as failed
+    private Mono<List<Candidate>> saveBookings(List<Candidate> candidates, BatchBookingResult[] results) {
+        if (candidates.isEmpty()) {
+            return Mono.just(candidates);
         }
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> {
+                    bookingRepository.saveAll(candidates.stream().map(Candidate::booking).toList());
+                    return candidates;
+                }))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> Flux.fromIterable(candidates)
+                        .flatMap(candidate -> releaseSeats(candidate.booking()))
+                        .then(Mono.fromCallable(() -> failAll(candidates, results, e))));
+    }
 
-        // 4. fiyat belirleme
-        Double totalAmount = event.getPrice() * request.getNumberOfTickets();
+    private Mono<List<Candidate>> saveBookingsWithOutbox(List<Candidate> candidates, BatchBookingResult[] results) {
+        if (candidates.isEmpty()) {
+            return Mono.just(candidates);
+        }
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> {
+                    bookingRepository.saveAll(candidates.stream().map(Candidate::booking).toList());
+                    LocalDateTime now = LocalDateTime.now();
+                    seatOutboxRepository.saveAll(candidates.stream()
+                            .map(candidate -> outboxMessage(candidate.booking(), now))
+                            .toList());
+                    return candidates;
+                }))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> Mono.fromCallable(() -> failAll(candidates, results, e)));
+    }
 
-        // 5. booking olusturma
-        Booking booking = Booking.builder()
-                .userId(request.getUserId())
-                .eventId(request.getEventId())
-                .numberOfTickets(request.getNumberOfTickets())
-                .totalAmount(totalAmount)
-                .status(Booking.BookingStatus.PENDING)
-                .build();
-        booking = bookingRepository.save(booking);
-        log.info("Booking created with id: {}", booking.getId());
+    private List<Candidate> failAll(List<Candidate> candidates, BatchBookingResult[] results, Throwable error) {
+        log.error("Failed to store {} bookings: {}", candidates.size(), error.getMessage());
+        candidates.forEach(candidate -> results[candidate.index()] = new BatchBookingResult(
+                candidate.index(), BatchBookingResult.FAILED, null, "Unable to store booking"));
+        return List.of();
+    }
 
-        // 6. event servicede koltuk sayisi guncelleme
-        updateEventSeats(request.getEventId(), request.getNumberOfTickets());
+    private Mono<Booking> saveBooking(Booking booking) {
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> bookingRepository.save(booking)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(saved -> log.info("Booking created with id: {}", saved.getId()));
+    }
 
-        return convertToResponse(booking);
+    private Mono<EventResponse> getEventFromService(String eventId) {
+        return eventDetailsCache.get(eventId, this::fetchEvent);
+    }
+
+    // The booking and its seat reservation commit together; SeatOutboxRelay delivers the reservation
+    private Mono<Booking> saveBookingWithOutbox(Booking booking) {
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> {
+                    Booking saved = bookingRepository.save(booking);
+                    seatOutboxRepository.save(outboxMessage(saved, LocalDateTime.now()));
+                    return saved;
+                }))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(saved -> log.info("Booking created with id: {}, seats queued for event: {}",
+                        saved.getId(), saved.getEventId()));
+    }
+
+    private SeatOutboxMessage outboxMessage(Booking booking, LocalDateTime now) {
+        return SeatOutboxMessage.builder()
+                .requestId(UUID.randomUUID().toString())
+                .bookingId(booking.getId())
+                .eventId(booking.getEventId())
+                .seats(booking.getNumberOfTickets())
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
     }
 
     //create booking metodu için GET http://localhost:8082/api/events/e cagri
-  private EventResponse getEventFromService(String eventId) {
-    try {
+    private Mono<EventResponse> fetchEvent(String eventId) {
         return eventServiceClient.get()
                 .uri("/api/events/" + eventId)
                 .retrieve()
                 .bodyToMono(EventResponse.class)
                 .timeout(Duration.ofSeconds(5))
-                .block();
-    } catch (WebClientResponseException.NotFound e) {
-        log.error("Event not found: {}", eventId);
-        throw new ResourceNotFoundException("Event not found with id: " + eventId);
-    } catch (WebClientResponseException e) {
-        log.error("Error calling Event Service: {}", e.getMessage());
-        throw new ServiceUnavailableException("Event Service is currently unavailable");
-    } catch (Exception e) {
-        log.error("Unexpected error: {}", e.getMessage());
-        throw new ServiceUnavailableException("Unable to validate event details");
+                .onErrorMap(e -> {
+                    if (e instanceof WebClientResponseException.NotFound) {
+                        log.error("Event not found: {}", eventId);
+                        eventDetailsCache.invalidate(eventId);
+                        return new ResourceNotFoundException("Event not found with id: " + eventId);
+                    }
+                    if (e instanceof WebClientResponseException) {
+                        log.error("Error calling Event Service: {}", e.getMessage());
+                        return new ServiceUnavailableException("Event Service is currently unavailable");
+                    }
+                    log.error("Unexpected error: {}", e.getMessage());
+                    return new ServiceUnavailableException("Unable to validate event details");
+                });
     }
-}
 
-private void updateEventSeats(String eventId, Integer seatsToBook) {
-    try {
+    // Completes with the seat hold id when the catalog holds seats, empty otherwise
+    private Mono<String> updateEventSeats(String eventId, Integer seatsToBook) {
+        if (seatReservationBatcher.isEnabled()) {
+            return seatReservationBatcher.reserve(eventId, seatsToBook);
+        }
         UpdateSeatsRequest updateRequest = new UpdateSeatsRequest(seatsToBook);
 
-        eventServiceClient.patch()
+        return eventServiceClient.patch()
                 .uri("/api/events/" + eventId + "/seats")
-                .body(Mono.just(updateRequest), UpdateSeatsRequest.class)
+                .bodyValue(updateRequest)
                 .retrieve()
-                .bodyToMono(EventResponse.class)
+                .toEntity(EventResponse.class)
                 .timeout(Duration.ofSeconds(5))
-                .block();
+                .doOnNext(response -> {
+                    log.info("Updated seats for event: {}, booked: {}", eventId, seatsToBook);
+                    if (response.getBody() != null) {
+                        eventDetailsCache.put(response.getBody());
+                    }
+                })
+                .mapNotNull(response -> response.getHeaders().getFirst(SEAT_HOLD_HEADER))
+                .onErrorMap(e -> {
+                    if (e instanceof WebClientResponseException.NotFound) {
+                        return new ResourceNotFoundException("Event not found with id: " + eventId);
+                    }
+                    // The catalog answers 409 when another booking took the last seats first
+                    if (e instanceof WebClientResponseException.Conflict) {
+                        return new InsufficientSeatsException("Insufficient seats for event: " + eventId);
+                    }
+                    if (e instanceof WebClientResponseException.BadRequest) {
+                        return new AssignedSeatingException(eventId);
+                    }
+                    log.error("Failed to update event seats: {}", e.getMessage());
+                    return new ServiceUnavailableException("Unable to reserve seats for event: " + eventId);
+                });
+    }
 
-        log.info("Updated seats for event: {}, booked: {}", eventId, seatsToBook);
-    } catch (Exception e) {
-        log.error("Failed to update event seats: {}", e.getMessage());
+    // Compensates a reservation whose booking could not be stored
+    Mono<Void> releaseSeats(Booking booking) {
+        WebClient.RequestHeadersSpec<?> call = booking.getHoldId() != null
+                ? eventServiceClient.delete()
+                        .uri("/api/events/holds/" + booking.getHoldId())
+                : eventServiceClient.post()
+                        .uri("/api/events/" + booking.getEventId() + "/seats/releases")
+                        .bodyValue(Map.of("seats", booking.getNumberOfTickets()));
+        return call.retrieve()
+                .toBodilessEntity()
+                .timeout(Duration.ofSeconds(5))
+                .doOnNext(response -> log.info("Released {} seats for event {} after failed booking",
+                        booking.getNumberOfTickets(), booking.getEventId()))
+                .onErrorResume(e -> {
+                    log.error("Failed to release {} seats for event {}: {}",
+                            booking.getNumberOfTickets(), booking.getEventId(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
     }
 
-}
+    void confirmSeatHold(String holdId) {
+        try {
+            eventServiceClient.post()
+                    .uri("/api/events/holds/" + holdId + "/confirm")
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(Duration.ofSeconds(5))
+                    .block();
+        } catch (WebClientResponseException.Gone e) {
+            throw new SeatHoldExpiredException("Seat hold expired before payment completed");
+        } catch (WebClientResponseException e) {
+            log.error("Error confirming seat hold {}: {}", holdId, e.getMessage());
+            throw new ServiceUnavailableException("Event Service is currently unavailable");
+        }
+    }
+
+    private void releaseSeatHold(String holdId) {
+        try {
+            eventServiceClient.delete()
+                    .uri("/api/events/holds/" + holdId)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(Duration.ofSeconds(5))
+                    .block();
+        } catch (Exception e) {
+            // The hold still expires on its own
+            log.error("Failed to release seat hold {}: {}", holdId, e.getMessage());
+        }
+    }
 
 
     public BookingResponse getBookingById(Long id) {
@@ -123,10 +398,27 @@ private void updateEventSeats(String eventId, Integer seatsToBook) {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    // The hold is confirmed before the booking row is touched, so no connection waits on the catalog
     public BookingResponse confirmBooking(Long id, String paymentId) {
+        // Checked before loading the booking, so a rejection the relay just committed is seen as CANCELLED
+        if (OUTBOX_MODE.equals(seatUpdateMode) && seatOutboxRepository.existsByBookingId(id)) {
+            throw new BookingConflictException("Seats for booking " + id + " are not reserved yet");
+        }
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+        if (booking.getStatus() == Booking.BookingStatus.CANCELLED) {
+            throw new BookingConflictException("Booking " + id + " is cancelled");
+        }
+        if (booking.getHoldId() != null && booking.getStatus() == Booking.BookingStatus.PENDING) {
+            try {
+                confirmSeatHold(booking.getHoldId());
+            } catch (SeatHoldExpiredException e) {
+                // The seats already went back to the catalog
+                booking.setStatus(Booking.BookingStatus.CANCELLED);
+                bookingRepository.save(booking);
+                throw e;
+            }
+        }
         booking.setStatus(Booking.BookingStatus.CONFIRMED);
         booking.setPaymentId(paymentId);
         booking = bookingRepository.save(booking);
@@ -134,12 +426,21 @@ private void updateEventSeats(String eventId, Integer seatsToBook) {
         return convertToResponse(booking);
     }
 
-    @Transactional
     public void cancelBooking(Long id) {
-        Booking booking = bookingRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
-        booking.setStatus(Booking.BookingStatus.CANCELLED);
-        bookingRepository.save(booking);
+        String holdToRelease = transactionTemplate.execute(status -> {
+            Booking current = bookingRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+            // Seats still waiting in the outbox were never taken
+            boolean undelivered = seatOutboxRepository.deleteUnsentByBookingId(id) > 0;
+            Booking.BookingStatus previous = current.getStatus();
+            current.setStatus(Booking.BookingStatus.CANCELLED);
+            bookingRepository.save(current);
+            return !undelivered && previous == Booking.BookingStatus.PENDING ? current.getHoldId() : null;
+        });
+        // Released only after the cancellation is committed
+        if (holdToRelease != null) {
+            releaseSeatHold(holdToRelease);
+        }
         log.info("Booking cancelled: {}", id);
     }
 
@@ -156,4 +457,8 @@ private void updateEventSeats(String eventId, Integer seatsToBook) {
                 .updatedAt(booking.getUpdatedAt())
                 .build();
     }
+
+    private record EventLookup(String eventId, EventResponse event, String error) {}
+
+    private record Candidate(int index, Booking booking) {}
 }
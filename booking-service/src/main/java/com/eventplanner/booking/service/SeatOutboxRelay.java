@@ -0,0 +1,327 @@
+package com.eventplanner.booking.service;
+
+import com.eventplanner.booking.dto.SeatBatchRequest;
+import com.eventplanner.booking.dto.SeatBatchResponse;
+import com.eventplanner.booking.model.Booking;
+import com.eventplanner.booking.model.SeatOutboxMessage;
+import com.eventplanner.booking.repository.BookingRepository;
+import com.eventplanner.booking.repository.SeatOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers seat reservations written to {@code seat_outbox} alongside their bookings.
+ * Each pass claims the oldest due, unclaimed messages in a short transaction, groups them
+ * per event and sends each group as one catalog batch carrying the message request ids,
+ * so a redelivery after a crash or timeout is answered from the catalog's record instead
+ * of taking seats twice. The catalog calls run outside any transaction; each group's
+ * outcome is then committed on its own, and only the transaction that removes a message
+ * acts on it. A failed group is retried with exponential backoff.
+ * <p>
+ * Delivery order is only roughly creation order: ids come from a pooled sequence, so
+ * messages are ordered by {@code created_at}, which follows each instance's clock, and a
+ * backed-off or in-flight message does not hold back later ones for the same event.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.seat-updates.mode", havingValue = "outbox")
+@Slf4j
+public class SeatOutboxRelay {
+
+    private static final long RELAY_LOCK_KEY = 0x5EA7_0B0BL;
+
+    private final SeatOutboxRepository seatOutboxRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
+    private final WebClient eventServiceClient;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Duration claimTtl;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestAgeMs = new AtomicLong();
+    private final Timer lag;
+    private final Counter reserved;
+    private final Counter rejected;
+    private final Counter abandoned;
+    private final Counter failures;
+
+    public SeatOutboxRelay(SeatOutboxRepository seatOutboxRepository,
+                           BookingRepository bookingRepository,
+                           BookingService bookingService,
+                           WebClient eventServiceClient,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${booking.outbox.batch-size:500}") int batchSize,
+                           @Value("${booking.outbox.concurrency:8}") int concurrency,
+                           @Value("${booking.outbox.max-attempts:10}") int maxAttempts,
+                           @Value("${booking.outbox.backoff:500ms}") Duration backoff,
+                           @Value("${booking.outbox.max-backoff:1m}") Duration maxBackoff,
+                           @Value("${booking.outbox.claim-ttl:30s}") Duration claimTtl) {
+        this.seatOutboxRepository = seatOutboxRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingService = bookingService;
+        this.eventServiceClient = eventServiceClient;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTtl = claimTtl;
+
+        Gauge.builder("booking.outbox.pending", pending, AtomicLong::get)
+                .description("Seat reservations waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("booking.outbox.oldest.age", oldestAgeMs, AtomicLong::get)
+                .description("Age of the oldest undelivered seat reservation")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.lag = Timer.builder("booking.outbox.lag")
+                .description("Time from booking to seat reservation delivery")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.reserved = Counter.builder("booking.outbox.delivered").tag("outcome", "reserved").register(meterRegistry);
+        this.rejected = Counter.builder("booking.outbox.delivered").tag("outcome", "rejected").register(meterRegistry);
+        this.abandoned = Counter.builder("booking.outbox.delivered").tag("outcome", "abandoned").register(meterRegistry);
+        this.failures = Counter.builder("booking.outbox.failures")
+                .description("Catalog batch calls that failed and will be retried")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.outbox.poll-ms:200}")
+    public void relay() {
+        List<List<SeatOutboxMessage>> groups;
+        try {
+            groups = transactionTemplate.execute(status -> claim());
+        } catch (RuntimeException e) {
+            log.error("Seat outbox relay pass failed: {}", e.getMessage());
+            return;
+        }
+        if (groups == null || groups.isEmpty()) {
+            return;
+        }
+
+        List<Delivery> deliveries = Flux.fromIterable(groups)
+                .flatMap(group -> send(group)
+                        .map(response -> new Delivery(group, response, null))
+                        .onErrorResume(e -> Mono.just(new Delivery(group, null, e))), concurrency)
+                .collectList()
+                .block();
+
+        for (Delivery delivery : deliveries) {
+            String eventId = delivery.messages().get(0).getEventId();
+            try {
+                List<Runnable> followUps = transactionTemplate.execute(status -> delivery.error() == null
+                        ? apply(delivery.messages(), delivery.response())
+                        : retry(delivery.messages(), delivery.error()));
+                // Catalog calls that depend on the outcome run once it is committed
+                followUps.forEach(Runnable::run);
+            } catch (RuntimeException e) {
+                // The claim runs out and the catalog answers the redelivery from its record
+                log.error("Failed to record seat reservations for event {}: {}", eventId, e.getMessage());
+            }
+        }
+    }
+
+    private List<List<SeatOutboxMessage>> claim() {
+        if (!seatOutboxRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatOutboxMessage> messages = seatOutboxRepository.findDue(now, PageRequest.of(0, batchSize));
+        pending.set(seatOutboxRepository.count());
+        oldestAgeMs.set(seatOutboxRepository.findFirstByOrderByCreatedAtAsc()
+                .map(oldest -> Duration.between(oldest.getCreatedAt(), now).toMillis())
+                .orElse(0L));
+
+        List<List<SeatOutboxMessage>> due = new ArrayList<>(messages.stream()
+                .collect(Collectors.groupingBy(SeatOutboxMessage::getEventId, LinkedHashMap::new, Collectors.toList()))
+                .values());
+        LocalDateTime until = now.plus(claimTtl);
+        due.forEach(group -> group.forEach(message -> message.setClaimedUntil(until)));
+        return due;
+    }
+
+    private Mono<SeatBatchResponse> send(List<SeatOutboxMessage> group) {
+        SeatBatchRequest request = new SeatBatchRequest(
+                group.stream().map(SeatOutboxMessage::getSeats).toList(),
+                group.stream().map(SeatOutboxMessage::getRequestId).toList());
+        return eventServiceClient.post()
+                .uri("/api/events/" + group.get(0).getEventId() + "/seats/batch")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(SeatBatchResponse.class)
+                .timeout(Duration.ofSeconds(5));
+    }
+
+    private List<Runnable> apply(List<SeatOutboxMessage> group, SeatBatchResponse response) {
+        Map<Long, SeatOutboxMessage> live = lock(group);
+        Map<Long, Booking> bookings = bookingRepository.findAllById(
+                        live.values().stream().map(SeatOutboxMessage::getBookingId).toList()).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        Map<Integer, SeatBatchResponse.Result> results = response.getResults() == null ? Map.of()
+                : response.getResults().stream()
+                        .collect(Collectors.toMap(SeatBatchResponse.Result::getIndex, Function.identity(), (a, b) -> a));
+        LocalDateTime now = LocalDateTime.now();
+        List<Runnable> followUps = new ArrayList<>();
+        List<SeatOutboxMessage> delivered = new ArrayList<>();
+        List<SeatOutboxMessage> unsettled = new ArrayList<>();
+
+        for (int i = 0; i < group.size(); i++) {
+            SeatOutboxMessage message = live.get(group.get(i).getId());
+            if (message == null) {
+                continue;
+            }
+            SeatBatchResponse.Result result = results.get(i);
+            String status = result == null ? null : result.getStatus();
+            Booking booking = bookings.get(message.getBookingId());
+            if ("RESERVED".equals(status)) {
+                reserved(message, booking, result.getHoldId(), followUps);
+                reserved.increment();
+            } else if ("REJECTED".equals(status)) {
+                cancel(booking, "no seats left");
+                rejected.increment();
+            } else {
+                // No result yet, e.g. an earlier delivery of the request is still being applied
+                unsettled.add(message);
+                continue;
+            }
+            lag.record(Duration.between(message.getCreatedAt(), now));
+            delivered.add(message);
+        }
+        seatOutboxRepository.deleteAll(delivered);
+        if (!unsettled.isEmpty()) {
+            reschedule(unsettled, "Catalog has not settled the seat request yet", false);
+        }
+        log.info("Delivered {} seat reservations for event {}: {} reserved, {} rejected",
+                delivered.size(), group.get(0).getEventId(), response.getReserved(), response.getRejected());
+        return followUps;
+    }
+
+    private void reserved(SeatOutboxMessage message, Booking booking, String holdId, List<Runnable> followUps) {
+        if (booking == null || booking.getStatus() == Booking.BookingStatus.CANCELLED) {
+            // Cancelled while the reservation was in flight; hand the seats back
+            Booking released = Booking.builder()
+                    .eventId(message.getEventId())
+                    .numberOfTickets(message.getSeats())
+                    .holdId(holdId)
+                    .build();
+            followUps.add(() -> bookingService.releaseSeats(released).block());
+            return;
+        }
+        if (holdId == null) {
+            return;
+        }
+        booking.setHoldId(holdId);
+        bookingRepository.save(booking);
+        if (booking.getStatus() == Booking.BookingStatus.CONFIRMED) {
+            // Paid before the reservation landed, so the hold must not be left to expire
+            Long bookingId = booking.getId();
+            followUps.add(() -> {
+                try {
+                    bookingService.confirmSeatHold(holdId);
+                } catch (RuntimeException e) {
+                    log.error("Failed to confirm seat hold {} for booking {}: {}", holdId, bookingId, e.getMessage());
+                }
+            });
+        }
+    }
+
+    private void cancel(Booking booking, String reason) {
+        if (booking == null || booking.getStatus() == Booking.BookingStatus.CANCELLED) {
+            return;
+        }
+        if (booking.getStatus() == Booking.BookingStatus.CONFIRMED) {
+            // Confirmation waits for delivery, so this only happens if that guard was bypassed
+            log.error("Not cancelling confirmed booking {} ({}); it needs manual review", booking.getId(), reason);
+            return;
+        }
+        booking.setStatus(Booking.BookingStatus.CANCELLED);
+        bookingRepository.save(booking);
+        log.info("Booking cancelled: {} ({})", booking.getId(), reason);
+    }
+
+    private List<Runnable> retry(List<SeatOutboxMessage> group, Throwable error) {
+        boolean permanent = error instanceof WebClientResponseException.NotFound
+                || error instanceof WebClientResponseException.BadRequest;
+        failures.increment();
+        List<SeatOutboxMessage> live = new ArrayList<>(lock(group).values());
+        if (!live.isEmpty()) {
+            reschedule(live, error.getMessage(), permanent);
+        }
+        return List.of();
+    }
+
+    // Backs off the messages and gives up on those out of attempts; their bookings are cancelled
+    private void reschedule(List<SeatOutboxMessage> messages, String error, boolean permanent) {
+        String eventId = messages.get(0).getEventId();
+        List<SeatOutboxMessage> exhausted = new ArrayList<>();
+        List<SeatOutboxMessage> remaining = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (SeatOutboxMessage message : messages) {
+            int attempts = message.getAttempts() + 1;
+            if (permanent || attempts >= maxAttempts) {
+                exhausted.add(message);
+                continue;
+            }
+            long delay = Math.min(backoff.toMillis() << Math.min(attempts - 1, 20), maxBackoff.toMillis());
+            message.setAttempts(attempts);
+            message.setNextAttemptAt(now.plus(Duration.ofMillis(delay)));
+            message.setLastError(truncate(error));
+            message.setClaimedUntil(null);
+            remaining.add(message);
+        }
+
+        if (!exhausted.isEmpty()) {
+            log.error("Giving up on {} seat reservations for event {}: {}", exhausted.size(), eventId, error);
+            bookingRepository.findAllById(exhausted.stream().map(SeatOutboxMessage::getBookingId).toList())
+                    .forEach(booking -> cancel(booking, "seat reservation failed"));
+            seatOutboxRepository.deleteAll(exhausted);
+            abandoned.increment(exhausted.size());
+        }
+        if (!remaining.isEmpty()) {
+            log.warn("Seat reservations for event {} failed, retrying {} messages: {}",
+                    eventId, remaining.size(), error);
+        }
+    }
+
+    // Messages removed since they were claimed were settled elsewhere and are left alone
+    private Map<Long, SeatOutboxMessage> lock(List<SeatOutboxMessage> group) {
+        return seatOutboxRepository.findAllByIdIn(group.stream().map(SeatOutboxMessage::getId).toList()).stream()
+                .collect(Collectors.toMap(SeatOutboxMessage::getId, Function.identity()));
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= 255 ? message : message.substring(0, 255);
+    }
+
+    private record Delivery(List<SeatOutboxMessage> messages, SeatBatchResponse response, Throwable error) {}
+}
@@ -0,0 +1,271 @@
+package com.eventplanner.booking.service;
+
+import com.eventplanner.booking.cache.EventDetailsCache;
+import com.eventplanner.booking.dto.SeatBatchRequest;
+import com.eventplanner.booking.dto.SeatBatchResponse;
+import com.eventplanner.booking.exception.AssignedSeatingException;
+import com.eventplanner.booking.exception.InsufficientSeatsException;
+import com.eventplanner.booking.exception.ResourceNotFoundException;
+import com.eventplanner.booking.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects seat reservations for the same event over a short window and sends them
+ * to the catalog as one {@code POST /api/events/{id}/seats/batch}. The catalog answers
+ * per request, so each waiting booking is completed or rejected on its own. A batch
+ * is sent when the window closes or when it reaches {@code max-size}. Seats reserved
+ * for a caller that has already given up are handed back.
+ * <p>
+ * Every reservation carries a request id, and the catalog records the outcome
+ * under that id. A batch that times out or fails with a server or connection
+ * error is sent again with the same ids, up to {@code max-attempts}, so a
+ * reservation that was applied before the answer was lost is replayed instead of
+ * taken twice. The same happens to requests the catalog reports as PENDING.
+ */
+@Component
+@Slf4j
+public class SeatReservationBatcher {
+
+    private final WebClient eventServiceClient;
+    private final EventDetailsCache eventDetailsCache;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Map<String, Batch> open = new ConcurrentHashMap<>();
+    private final DistributionSummary batchSizes;
+
+    public SeatReservationBatcher(WebClient eventServiceClient,
+                                  EventDetailsCache eventDetailsCache,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${booking.seat-batch.enabled:false}") boolean enabled,
+                                  @Value("${booking.seat-batch.window:5ms}") Duration window,
+                                  @Value("${booking.seat-batch.max-size:100}") int maxSize,
+                                  @Value("${booking.seat-batch.max-attempts:3}") int maxAttempts,
+                                  @Value("${booking.seat-batch.retry-backoff:100ms}") Duration retryBackoff) {
+        this.eventServiceClient = eventServiceClient;
+        this.eventDetailsCache = eventDetailsCache;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxSize = maxSize;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+        this.batchSizes = DistributionSummary.builder("booking.seat-batch.size")
+                .description("Seat reservations sent per catalog call")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Completes with the seat hold id when the catalog holds seats, empty otherwise. */
+    public Mono<String> reserve(String eventId, int seats) {
+        return Mono.create(sink -> {
+            Pending pending = new Pending(seats, sink);
+            sink.onCancel(() -> pending.settled.set(true));
+            Batch[] full = new Batch[1];
+            open.compute(eventId, (id, batch) -> {
+                if (batch == null) {
+                    Batch created = new Batch(id);
+                    Schedulers.parallel().schedule(() -> flush(created), windowNanos, TimeUnit.NANOSECONDS);
+                    batch = created;
+                }
+                batch.pending.add(pending);
+                if (batch.pending.size() >= maxSize) {
+                    full[0] = batch;
+                    return null;
+                }
+                return batch;
+            });
+            if (full[0] != null) {
+                send(full[0]);
+            }
+        });
+    }
+
+    private void flush(Batch batch) {
+        // A batch that filled up has already been sent
+        if (open.remove(batch.eventId, batch)) {
+            send(batch);
+        }
+    }
+
+    private void send(Batch batch) {
+        // Callers that gave up while the window was open are not sent at all
+        List<Pending> pending = batch.pending.stream().filter(p -> !p.settled.get()).toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+        batchSizes.record(pending.size());
+        deliver(batch.eventId, pending, 1);
+    }
+
+    // Redeliveries include callers that gave up meanwhile, so seats already taken for them are released
+    private void deliver(String eventId, List<Pending> pending, int attempt) {
+        eventServiceClient.post()
+                .uri("/api/events/" + eventId + "/seats/batch")
+                .bodyValue(new SeatBatchRequest(pending.stream().map(Pending::seats).toList(),
+                        pending.stream().map(Pending::requestId).toList()))
+                .retrieve()
+                .bodyToMono(SeatBatchResponse.class)
+                .timeout(Duration.ofSeconds(5))
+                .subscribe(response -> complete(eventId, pending, response, attempt),
+                        error -> {
+                            if (isRetryable(error) && attempt < maxAttempts) {
+                                log.warn("Seat batch for event {} failed on attempt {}, redelivering: {}",
+                                        eventId, attempt, error.getMessage());
+                                redeliver(eventId, pending, attempt);
+                            } else {
+                                fail(eventId, pending, error);
+                            }
+                        });
+    }
+
+    private void redeliver(String eventId, List<Pending> pending, int attempt) {
+        Schedulers.parallel().schedule(() -> deliver(eventId, pending, attempt + 1),
+                retryBackoff.toMillis() * attempt, TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        return error instanceof TimeoutException
+                || error instanceof WebClientRequestException
+                || error instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError();
+    }
+
+    private void complete(String eventId, List<Pending> pending, SeatBatchResponse response, int attempt) {
+        if (response.getEvent() != null) {
+            eventDetailsCache.put(response.getEvent());
+        }
+        log.info("Reserved seats for event {}: {} accepted, {} rejected",
+                eventId, response.getReserved(), response.getRejected());
+        boolean[] answered = new boolean[pending.size()];
+        List<Pending> inFlight = new ArrayList<>();
+        for (SeatBatchResponse.Result result : response.getResults() == null
+                ? List.<SeatBatchResponse.Result>of() : response.getResults()) {
+            int index = result.getIndex();
+            if (index < 0 || index >= pending.size() || answered[index]) {
+                continue;
+            }
+            answered[index] = true;
+            Pending request = pending.get(index);
+            if ("RESERVED".equals(result.getStatus())) {
+                if (request.settled.compareAndSet(false, true)) {
+                    request.sink.success(result.getHoldId());
+                } else {
+                    // The caller timed out or was cancelled after the seats were sent for
+                    release(eventId, request.seats, result.getHoldId());
+                }
+            } else if ("PENDING".equals(result.getStatus())) {
+                inFlight.add(request);
+            } else {
+                request.error(new InsufficientSeatsException(
+                        String.format("Insufficient seats. Requested: %d", request.seats)));
+            }
+        }
+        for (int i = 0; i < answered.length; i++) {
+            if (!answered[i]) {
+                log.error("Catalog returned no result for seat reservation {} of event {}", i, eventId);
+                pending.get(i).error(new ServiceUnavailableException("Unable to reserve seats for event: " + eventId));
+            }
+        }
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        if (attempt < maxAttempts) {
+            redeliver(eventId, inFlight, attempt);
+        } else {
+            log.error("{} seat reservations for event {} were still pending after {} attempts",
+                    inFlight.size(), eventId, attempt);
+            inFlight.forEach(request -> request.error(
+                    new ServiceUnavailableException("Unable to reserve seats for event: " + eventId)));
+        }
+    }
+
+    private void fail(String eventId, List<Pending> pending, Throwable error) {
+        RuntimeException mapped;
+        if (error instanceof WebClientResponseException.NotFound) {
+            eventDetailsCache.invalidate(eventId);
+            mapped = new ResourceNotFoundException("Event not found with id: " + eventId);
+        } else if (error instanceof WebClientResponseException.BadRequest) {
+            mapped = new AssignedSeatingException(eventId);
+        } else {
+            log.error("Failed to reserve seats for event {}: {}", eventId, error.getMessage());
+            mapped = new ServiceUnavailableException("Unable to reserve seats for event: " + eventId);
+        }
+        pending.forEach(request -> request.error(mapped));
+    }
+
+    private void release(String eventId, int seats, String holdId) {
+        WebClient.RequestHeadersSpec<?> call = holdId != null
+                ? eventServiceClient.delete()
+                        .uri("/api/events/holds/" + holdId)
+                : eventServiceClient.post()
+                        .uri("/api/events/" + eventId + "/seats/releases")
+                        .bodyValue(Map.of("seats", seats));
+        call.retrieve()
+                .toBodilessEntity()
+                .timeout(Duration.ofSeconds(5))
+                .subscribe(response -> log.info("Released {} seats for event {} after the booking was abandoned",
+                                seats, eventId),
+                        e -> log.error("Failed to release {} seats for event {}: {}", seats, eventId, e.getMessage()));
+    }
+
+    private static final class Pending {
+        private final String requestId = UUID.randomUUID().toString();
+        private final int seats;
+        private final MonoSink<String> sink;
+        // Taken by whichever comes first: the catalog's answer or the caller going away
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Pending(int seats, MonoSink<String> sink) {
+            this.seats = seats;
+            this.sink = sink;
+        }
+
+        private int seats() {
+            return seats;
+        }
+
+        private String requestId() {
+            return requestId;
+        }
+
+        private void error(RuntimeException e) {
+            if (settled.compareAndSet(false, true)) {
+                sink.error(e);
+            }
+        }
+    }
+
+    private static final class Batch {
+        private final String eventId;
+        private final List<Pending> pending = new ArrayList<>();
+
+        private Batch(String eventId) {
+            this.eventId = eventId;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.eventplanner.eventcatalog.cache;
+
+import com.eventplanner.eventcatalog.service.CatalogChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Strong validators for catalog responses. A single event is tagged with its id and
+ * {@code updatedAt}; listings share a version bumped on every catalog write, so a
+ * listing ETag can be checked before any Mongo read.
+ */
+@Component
+public class CatalogVersion {
+
+    // Distinguishes instances and restarts, since the counter itself lives in memory
+    private final String instance = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong version = new AtomicLong();
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent change) {
+        version.incrementAndGet();
+    }
+
+    public String listingTag() {
+        return "\"" + instance + "-" + version.get() + "\"";
+    }
+
+    /** Listing tag that also rolls over every {@code window}, for listings that depend on the clock. */
+    public String listingTag(Duration window) {
+        long bucket = System.currentTimeMillis() / Math.max(1, window.toMillis());
+        return "\"" + instance + "-" + version.get() + "-" + bucket + "\"";
+    }
+
+    public static String eventTag(String id, LocalDateTime updatedAt) {
+        long stamp = updatedAt == null ? 0 : updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "\"" + id + "-" + Long.toHexString(stamp) + "\"";
+    }
+}
@@ -0,0 +1,87 @@
+package com.eventplanner.eventcatalog.cache;
+
+import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.service.CatalogChangeEvent;
+import com.eventplanner.eventcatalog.service.EventMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of serialized {@link EventResponse}s keyed by event id.
+ * Entries already cached are rewritten on every update or seat change and dropped
+ * on delete; the TTL bounds how stale a value loaded concurrently with a write
+ * can get.
+ */
+@Component
+public class EventCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedEvent> cache;
+
+    public EventCache(ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${catalog.cache.event.max-size:10000}") long maxSize,
+                      @Value("${catalog.cache.event.ttl:5s}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "events.byId");
+    }
+
+    public CachedEvent get(String id, Function<String, EventResponse> loader) {
+        return cache.get(id, key -> serialize(loader.apply(key)));
+    }
+
+    public EventResponse getIfPresent(String id) {
+        CachedEvent cached = cache.getIfPresent(id);
+        if (cached == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(cached.body(), EventResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void put(EventResponse event) {
+        cache.put(event.getId(), serialize(event));
+    }
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent change) {
+        switch (change.type()) {
+            case UPDATED, SEATS_UPDATED -> cache.asMap().computeIfPresent(change.eventId(),
+                    (id, cached) -> serialize(EventMapper.toResponse(change.current())));
+            case DELETED, ARCHIVED -> cache.invalidate(change.eventId());
+            default -> {
+            }
+        }
+    }
+
+    private CachedEvent serialize(EventResponse event) {
+        try {
+            return new CachedEvent(event.getId(), event.getUpdatedAt(), objectMapper.writeValueAsBytes(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize event " + event.getId(), e);
+        }
+    }
+
+    public record CachedEvent(String id, LocalDateTime updatedAt, byte[] body) {}
+}
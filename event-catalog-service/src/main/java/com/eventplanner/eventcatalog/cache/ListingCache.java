@@ -0,0 +1,90 @@
+package com.eventplanner.eventcatalog.cache;
+
+import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.model.Event;
+import com.eventplanner.eventcatalog.service.CatalogChangeEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Cache of category, organizer and upcoming listings. Catalog writes evict the
+ * listings tagged with the old and new category and organizer of the event; seat
+ * changes only age out with the TTL. Concurrent misses on one key share a single
+ * load, so an expiring popular listing costs one Mongo query.
+ */
+@Component
+public class ListingCache {
+
+    private final Cache<ListingKey, List<EventResponse>> cache;
+
+    public ListingCache(MeterRegistry meterRegistry,
+                        @Value("${catalog.cache.listing.max-size:1000}") long maxSize,
+                        @Value("${catalog.cache.listing.ttl:60s}") Duration ttl,
+                        @Value("${catalog.cache.listing.upcoming-ttl:10s}") Duration upcomingTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<ListingKey, List<EventResponse>>() {
+                    @Override
+                    public long expireAfterCreate(ListingKey key, List<EventResponse> value, long currentTime) {
+                        return (key.kind() == Kind.UPCOMING ? upcomingTtl : ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ListingKey key, List<EventResponse> value,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ListingKey key, List<EventResponse> value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "events.listings");
+    }
+
+    public List<EventResponse> get(Kind kind, String value, Supplier<List<EventResponse>> loader) {
+        return cache.get(new ListingKey(kind, value == null ? "" : value), key -> List.copyOf(loader.get()));
+    }
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent change) {
+        if (change.type() == CatalogChangeEvent.ChangeType.SEATS_UPDATED) {
+            return;
+        }
+        evictTags(change.previous());
+        evictTags(change.current());
+        cache.invalidate(new ListingKey(Kind.UPCOMING, ""));
+    }
+
+    private void evictTags(Event event) {
+        if (event == null) {
+            return;
+        }
+        if (event.getCategory() != null) {
+            cache.invalidate(new ListingKey(Kind.CATEGORY, event.getCategory().trim()));
+        }
+        if (event.getOrganizerId() != null) {
+            cache.invalidate(new ListingKey(Kind.ORGANIZER, event.getOrganizerId().trim()));
+        }
+    }
+
+    public enum Kind {
+        CATEGORY, ORGANIZER, UPCOMING
+    }
+
+    private record ListingKey(Kind kind, String value) {}
+}
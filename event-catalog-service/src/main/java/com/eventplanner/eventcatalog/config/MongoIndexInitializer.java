@@ -0,0 +1,125 @@
+package com.eventplanner.eventcatalog.config;
+
+import com.eventplanner.eventcatalog.model.Event;
+import com.eventplanner.eventcatalog.model.EventTombstone;
+import com.eventplanner.eventcatalog.model.SeatHold;
+import com.eventplanner.eventcatalog.model.SeatRequestRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The full set of indexes on {@code events}, one per query shape used by the
+ * repository, listings, paging and the lifecycle sweeper. {@code ensureIndex} is
+ * a no-op for an index that already exists, so this is safe on every startup. It runs
+ * once all beans exist, before the web server starts, so no request reaches an
+ * unindexed collection.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexInitializer implements SmartInitializingSingleton {
+
+    public static final String TEXT_INDEX = "event_text";
+
+    static final List<IndexDefinition> EVENT_INDEXES = List.of(
+            TextIndexDefinition.builder()
+                    .named(TEXT_INDEX)
+                    .onField("title", 10F)
+                    .onField("category", 5F)
+                    .onField("location", 3F)
+                    .onField("description", 1F)
+                    .build(),
+            // findByStatus, lifecycle sweeper
+            new Index().named("status_eventDate")
+                    .on("status", Sort.Direction.ASC)
+                    .on("eventDate", Sort.Direction.ASC),
+            // findByCategory, category listings and pages
+            new Index().named("category_eventDate_id")
+                    .on("category", Sort.Direction.ASC)
+                    .on("eventDate", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC),
+            // findByOrganizerId, organizer listings and pages
+            new Index().named("organizerId_eventDate_id")
+                    .on("organizerId", Sort.Direction.ASC)
+                    .on("eventDate", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC),
+            // findByEventDateAfter, upcoming listings, unfiltered pages and streams
+            new Index().named("eventDate_id")
+                    .on("eventDate", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC),
+            // change feed
+            new Index().named("updatedAt_id")
+                    .on("updatedAt", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC));
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryPlanVerifier queryPlanVerifier;
+
+    @Value("${catalog.changes.tombstone-ttl:7d}")
+    private Duration tombstoneTtl;
+
+    @Value("${catalog.seats.request-ttl:7d}")
+    private Duration seatRequestTtl;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ensureIndexes();
+    }
+
+    public void ensureIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(Event.class);
+        int ensured = 0;
+        for (IndexDefinition index : EVENT_INDEXES) {
+            try {
+                indexOps.ensureIndex(index);
+                ensured++;
+            } catch (RuntimeException e) {
+                log.error("Failed to ensure event index {}: {}", index.getIndexOptions().get("name"), e.getMessage());
+            }
+        }
+        log.info("Event indexes verified ({} of {})", ensured, EVENT_INDEXES.size());
+
+        try {
+            IndexOperations tombstoneOps = mongoTemplate.indexOps(EventTombstone.class);
+            tombstoneOps.ensureIndex(new Index().named("deletedAt_ttl")
+                    .on("deletedAt", Sort.Direction.ASC)
+                    .expire(tombstoneTtl));
+            tombstoneOps.ensureIndex(new Index().named("deletedAt_id")
+                    .on("deletedAt", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC));
+        } catch (RuntimeException e) {
+            log.error("Failed to ensure tombstone indexes: {}", e.getMessage());
+        }
+
+        try {
+            mongoTemplate.indexOps(SeatHold.class).ensureIndex(new Index().named("expiresAt")
+                    .on("expiresAt", Sort.Direction.ASC));
+            mongoTemplate.indexOps(SeatHold.class).ensureIndex(new Index().named("releasingAt")
+                    .on("releasingAt", Sort.Direction.ASC)
+                    .sparse());
+        } catch (RuntimeException e) {
+            log.error("Failed to ensure seat hold indexes: {}", e.getMessage());
+        }
+
+        try {
+            mongoTemplate.indexOps(SeatRequestRecord.class).ensureIndex(new Index().named("createdAt_ttl")
+                    .on("createdAt", Sort.Direction.ASC)
+                    .expire(seatRequestTtl));
+        } catch (RuntimeException e) {
+            log.error("Failed to ensure seat request indexes: {}", e.getMessage());
+        }
+        queryPlanVerifier.verify();
+    }
+}
@@ -0,0 +1,142 @@
+package com.eventplanner.eventcatalog.config;
+
+import com.eventplanner.eventcatalog.model.Event;
+import com.mongodb.ExplainVerbosity;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Explains every indexed query shape against the live collection and reports plans
+ * that fall back to a collection scan or examine far more documents than they
+ * return. A bad plan stops startup unless {@code catalog.indexes.fail-on-bad-plan}
+ * is turned off, so a missing or unusable index is caught before traffic arrives.
+ */
+@Component
+@Slf4j
+public class QueryPlanVerifier {
+
+    private static final Sort LISTING_ORDER = Sort.by(Sort.Order.asc("eventDate"), Sort.Order.asc("id"));
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+    private final MongoPersistentEntity<?> entity;
+
+    @Value("${catalog.indexes.verify-plans:true}")
+    private boolean enabled;
+
+    @Value("${catalog.indexes.fail-on-bad-plan:true}")
+    private boolean failOnBadPlan;
+
+    @Value("${catalog.indexes.max-examined-ratio:2}")
+    private int maxExaminedRatio;
+
+    @Value("${catalog.indexes.explain-limit:100}")
+    private int explainLimit;
+
+    public QueryPlanVerifier(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        this.entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(Event.class);
+    }
+
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> problems = new ArrayList<>();
+        try {
+            queryShapes().forEach((name, query) -> {
+                String problem = check(query);
+                if (problem != null) {
+                    problems.add(name + ": " + problem);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Could not explain event queries: {}", e.getMessage());
+            return;
+        }
+
+        if (problems.isEmpty()) {
+            log.info("Query plans verified for all event query shapes");
+            return;
+        }
+        problems.forEach(p -> log.warn("Unindexed event query {}", p));
+        if (failOnBadPlan) {
+            throw new IllegalStateException("Event queries without a usable index: " + problems);
+        }
+    }
+
+    /** One entry per query shape issued by the repository, listings, paging, the sweeper and the change feed. */
+    Map<String, Query> queryShapes() {
+        // Sample values from a real document so the budget check sees realistic selectivity
+        Event sample = mongoTemplate.findOne(new Query(), Event.class);
+        String category = sample != null && sample.getCategory() != null ? sample.getCategory() : "";
+        String organizerId = sample != null && sample.getOrganizerId() != null ? sample.getOrganizerId() : "";
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Query> shapes = new LinkedHashMap<>();
+        shapes.put("findByCategory", new Query(Criteria.where("category").is(category)));
+        shapes.put("findByOrganizerId", new Query(Criteria.where("organizerId").is(organizerId)));
+        shapes.put("findByStatus", new Query(Criteria.where("status").is(Event.EventStatus.PUBLISHED)));
+        shapes.put("findByEventDateAfter", new Query(Criteria.where("eventDate").gt(now)));
+        shapes.put("categoryListing", new Query(Criteria.where("category").is(category)).with(LISTING_ORDER));
+        shapes.put("organizerListing", new Query(Criteria.where("organizerId").is(organizerId)).with(LISTING_ORDER));
+        shapes.put("upcomingListing", new Query(Criteria.where("eventDate").gt(now)).with(LISTING_ORDER));
+        shapes.put("sweeper", new Query(Criteria.where("status").is(Event.EventStatus.PUBLISHED)
+                .and("eventDate").lt(now)).with(Sort.by("eventDate")));
+        shapes.put("changeFeed", new Query(Criteria.where("updatedAt").lte(now))
+                .with(Sort.by(Sort.Order.asc("updatedAt"), Sort.Order.asc("id"))));
+        return shapes;
+    }
+
+    private String check(Query query) {
+        Document filter = queryMapper.getMappedObject(query.getQueryObject(), entity);
+        Document sort = queryMapper.getMappedSort(query.getSortObject(), entity);
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Event.class))
+                .find(filter)
+                .sort(sort)
+                .limit(explainLimit)
+                .explain(ExplainVerbosity.EXECUTION_STATS);
+
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        if (hasStage(winningPlan, "COLLSCAN")) {
+            return "COLLSCAN for " + filter.toJson();
+        }
+
+        Document stats = explain.get("executionStats", Document.class);
+        long examined = ((Number) stats.get("totalDocsExamined")).longValue();
+        long returned = ((Number) stats.get("nReturned")).longValue();
+        if (examined > Math.max(returned, 1) * maxExaminedRatio) {
+            return examined + " documents examined for " + returned + " returned by " + filter.toJson();
+        }
+        return null;
+    }
+
+    private static boolean hasStage(Object node, String stage) {
+        if (node instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> hasStage(value, stage));
+        }
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(value -> hasStage(value, stage));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,20 @@
+package com.eventplanner.eventcatalog.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Tomcat stays on the classpath for the servlet mode, and Boot would otherwise prefer it
+ * for the reactive server as well. The reactive profile runs on Netty instead.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveModeConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -1,24 +1,89 @@
 package com.eventplanner.eventcatalog.controller;
 
+import com.eventplanner.eventcatalog.cache.CatalogVersion;
+import com.eventplanner.eventcatalog.cache.EventCache;
+import com.eventplanner.eventcatalog.dto.BatchEventRequest;
+import com.eventplanner.eventcatalog.dto.BatchEventResponse;
+import com.eventplanner.eventcatalog.dto.ChangeFeedResponse;
+import com.eventplanner.eventcatalog.dto.EventPage;
 import com.eventplanner.eventcatalog.dto.EventRequest;
 import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.dto.EventStatsResponse;
+import com.eventplanner.eventcatalog.dto.ImportResponse;
+import com.eventplanner.eventcatalog.dto.OrganizerStatsResponse;
+import com.eventplanner.eventcatalog.dto.ReleaseSeatsRequest;
+import com.eventplanner.eventcatalog.dto.SearchPage;
+import com.eventplanner.eventcatalog.dto.SearchRequest;
+import com.eventplanner.eventcatalog.dto.SearchResponse;
+import com.eventplanner.eventcatalog.dto.SeatBatchRequest;
+import com.eventplanner.eventcatalog.dto.SeatBatchResponse;
+import com.eventplanner.eventcatalog.dto.SeatBlock;
+import com.eventplanner.eventcatalog.dto.SeatClaimRequest;
+import com.eventplanner.eventcatalog.dto.SeatHoldRequest;
+import com.eventplanner.eventcatalog.dto.SeatHoldResponse;
+import com.eventplanner.eventcatalog.dto.SeatMapRequest;
+import com.eventplanner.eventcatalog.dto.SeatMapResponse;
+import com.eventplanner.eventcatalog.dto.StatsRebuildResponse;
+import com.eventplanner.eventcatalog.dto.SuggestionResponse;
 import com.eventplanner.eventcatalog.dto.UpdateSeatsRequest;
+import com.eventplanner.eventcatalog.hold.SeatHoldService;
+import com.eventplanner.eventcatalog.live.SeatAvailabilityBroadcaster;
+import com.eventplanner.eventcatalog.seatmap.SeatMapService;
+import com.eventplanner.eventcatalog.service.ChangeFeedService;
+import com.eventplanner.eventcatalog.service.EventImportService;
+import com.eventplanner.eventcatalog.service.EventSearchService;
 import com.eventplanner.eventcatalog.service.EventService;
+import com.eventplanner.eventcatalog.service.SeatBatchService;
+import com.eventplanner.eventcatalog.stats.OrganizerStatsService;
+import com.eventplanner.eventcatalog.suggest.SuggestionIndex;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 @RestController
 @RequestMapping("/api/events")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*")
 public class EventController {
 
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+
     private final EventService eventService;
+    private final EventSearchService eventSearchService;
+    private final EventImportService eventImportService;
+    private final ChangeFeedService changeFeedService;
+    private final SuggestionIndex suggestionIndex;
+    private final CatalogVersion catalogVersion;
+    private final SeatAvailabilityBroadcaster seatAvailabilityBroadcaster;
+    private final OrganizerStatsService organizerStatsService;
+    private final SeatMapService seatMapService;
+    private final SeatHoldService seatHoldService;
+    private final SeatBatchService seatBatchService;
+
+    @Value("${catalog.http.event-max-age:5s}")
+    private Duration eventMaxAge;
+
+    @Value("${catalog.http.listing-max-age:30s}")
+    private Duration listingMaxAge;
+
+    @Value("${catalog.http.upcoming-max-age:10s}")
+    private Duration upcomingMaxAge;
 
     @PostMapping
     public ResponseEntity<EventResponse> createEvent(
@@ -28,6 +93,14 @@ public class EventController {
         return new ResponseEntity<>(event, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResponse> importEvents(
+            InputStream body,
+            @RequestHeader(value = "X-User-Id", required = false, defaultValue = "1") String organizerId) throws IOException {
+        ImportResponse response = eventImportService.importEvents(body, organizerId);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EventResponse> updateEvent(
             @PathVariable String id,
@@ -37,39 +110,149 @@ public class EventController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponse> getEventById(@PathVariable String id) {
-        EventResponse event = eventService.getEventById(id);
-        return ResponseEntity.ok(event);
+    public ResponseEntity<byte[]> getEventById(@PathVariable String id, WebRequest webRequest) {
+        EventCache.CachedEvent event = eventService.getCachedEvent(id);
+        String etag = CatalogVersion.eventTag(event.id(), event.updatedAt());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(eventMaxAge))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(event.body());
     }
 
-    @GetMapping
-    public ResponseEntity<List<EventResponse>> getAllEvents() {
-        List<EventResponse> events = eventService.getAllEvents();
+    @PostMapping("/batch")
+    public ResponseEntity<BatchEventResponse> getEventsByIds(@Valid @RequestBody BatchEventRequest request) {
+        BatchEventResponse events = eventService.getEventsByIds(request.getIds());
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping
+    public ResponseEntity<List<?>> getAllEvents(
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            WebRequest webRequest) {
+        String etag = catalogVersion.listingTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<?> events = isSummary(view) ? eventService.getAllEventSummaries() : eventService.getAllEvents();
+        return listing(events, etag, listingMaxAge);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<EventPage> getEventsPage(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String organizerId,
+            @RequestParam(defaultValue = "false") boolean upcoming,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        EventPage page = eventService.getEventsPage(category, organizerId, upcoming, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEvents(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String organizerId,
+            @RequestParam(defaultValue = "false") boolean upcoming) {
+        StreamingResponseBody body = out -> eventService.streamEvents(category, organizerId, upcoming, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size) {
+        ChangeFeedResponse changes = changeFeedService.getChanges(since, size);
+        return ResponseEntity.ok(changes);
+    }
+
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<EventResponse>> getEventsByCategory(@PathVariable String category) {
-        List<EventResponse> events = eventService.getEventsByCategory(category);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<?>> getEventsByCategory(
+            @PathVariable String category,
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            WebRequest webRequest) {
+        String etag = catalogVersion.listingTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<?> events = isSummary(view)
+                ? eventService.getEventSummariesByCategory(category)
+                : eventService.getEventsByCategory(category);
+        return listing(events, etag, listingMaxAge);
     }
 
     @GetMapping("/organizer/{organizerId}")
-    public ResponseEntity<List<EventResponse>> getEventsByOrganizer(@PathVariable String organizerId) {
-        List<EventResponse> events = eventService.getEventsByOrganizer(organizerId);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<?>> getEventsByOrganizer(
+            @PathVariable String organizerId,
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            WebRequest webRequest) {
+        String etag = catalogVersion.listingTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<?> events = isSummary(view)
+                ? eventService.getEventSummariesByOrganizer(organizerId)
+                : eventService.getEventsByOrganizer(organizerId);
+        return listing(events, etag, listingMaxAge);
+    }
+
+    @GetMapping("/organizer/{organizerId}/stats")
+    public ResponseEntity<OrganizerStatsResponse> getOrganizerStats(@PathVariable String organizerId) {
+        OrganizerStatsResponse stats = organizerStatsService.getOrganizerStats(organizerId);
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<EventStatsResponse> getEventStats(@PathVariable String id) {
+        EventStatsResponse stats = OrganizerStatsService.getEventStats(eventService.getEventById(id));
+        return ResponseEntity.ok(stats);
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<StatsRebuildResponse> rebuildStats() {
+        StatsRebuildResponse result = organizerStatsService.rebuild();
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<EventResponse>> getUpcomingEvents() {
-        List<EventResponse> events = eventService.getUpcomingEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<?>> getUpcomingEvents(
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            WebRequest webRequest) {
+        String etag = catalogVersion.listingTag(upcomingMaxAge);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<?> events = isSummary(view) ? eventService.getUpcomingEventSummaries() : eventService.getUpcomingEvents();
+        return listing(events, etag, upcomingMaxAge);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<EventResponse>> searchEvents(@RequestParam String query) {
-        List<EventResponse> events = eventService.searchEvents(query);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventResponse>> searchEvents(@ModelAttribute SearchRequest request) {
+        SearchPage page = eventSearchService.search(request);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextPage() != null) {
+            response.header(EventSearchService.NEXT_PAGE_HEADER, String.valueOf(page.getNextPage()));
+        }
+        return response.body(page.getEvents());
+    }
+
+    @GetMapping("/search/facets")
+    public ResponseEntity<SearchResponse> searchEventsWithFacets(@ModelAttribute SearchRequest request) {
+        SearchResponse response = eventSearchService.searchWithFacets(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SuggestionResponse> suggestions = suggestionIndex.suggest(prefix, Math.min(Math.max(limit, 1), 50));
+        return ResponseEntity.ok(suggestions);
     }
 
     @DeleteMapping("/{id}")
@@ -82,7 +265,102 @@ public class EventController {
     public ResponseEntity<EventResponse> updateAvailableSeats(
             @PathVariable String id,
             @Valid @RequestBody UpdateSeatsRequest request) {
+        seatMapService.requireGeneralAdmission(id);
+        if (seatHoldService.isEnabled()) {
+            SeatHoldResponse hold = seatHoldService.hold(id, request.getSeatsToBook());
+            return ResponseEntity.ok()
+                    .header(SeatHoldService.HOLD_HEADER, hold.getHoldId())
+                    .body(hold.getEvent());
+        }
         EventResponse event = eventService.updateSeats(id, request.getSeatsToBook());
         return ResponseEntity.ok(event);
     }
+
+    @PostMapping("/{id}/seats/releases")
+    public ResponseEntity<EventResponse> releaseAvailableSeats(
+            @PathVariable String id,
+            @Valid @RequestBody ReleaseSeatsRequest request) {
+        seatMapService.requireGeneralAdmission(id);
+        EventResponse event = eventService.releaseSeats(id, request.getSeats());
+        return ResponseEntity.ok(event);
+    }
+
+    @PostMapping("/{id}/seats/batch")
+    public ResponseEntity<SeatBatchResponse> updateAvailableSeatsBatch(
+            @PathVariable String id,
+            @Valid @RequestBody SeatBatchRequest request) {
+        seatMapService.requireGeneralAdmission(id);
+        SeatBatchResponse batch = seatBatchService.reserve(id, request);
+        return ResponseEntity.ok(batch);
+    }
+
+    @PostMapping("/{id}/holds")
+    public ResponseEntity<SeatHoldResponse> holdSeats(
+            @PathVariable String id,
+            @Valid @RequestBody SeatHoldRequest request) {
+        seatMapService.requireGeneralAdmission(id);
+        SeatHoldResponse hold = seatHoldService.hold(id, request.getSeats());
+        return new ResponseEntity<>(hold, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<SeatHoldResponse> confirmHold(@PathVariable String holdId) {
+        SeatHoldResponse hold = seatHoldService.confirm(holdId);
+        return ResponseEntity.ok(hold);
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(@PathVariable String holdId) {
+        seatHoldService.release(holdId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{id}/seatmap")
+    public ResponseEntity<SeatMapResponse> createSeatMap(
+            @PathVariable String id,
+            @Valid @RequestBody SeatMapRequest request) {
+        SeatMapResponse seatMap = seatMapService.createSeatMap(id, request);
+        return new ResponseEntity<>(seatMap, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}/seatmap")
+    public ResponseEntity<SeatMapResponse> getSeatMap(@PathVariable String id) {
+        SeatMapResponse seatMap = seatMapService.getSeatMap(id);
+        return ResponseEntity.ok(seatMap);
+    }
+
+    @PostMapping("/{id}/seatmap/claims")
+    public ResponseEntity<SeatBlock> claimSeats(
+            @PathVariable String id,
+            @Valid @RequestBody SeatClaimRequest request) {
+        SeatBlock block = seatMapService.claim(id, request);
+        return new ResponseEntity<>(block, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/{id}/seatmap/releases")
+    public ResponseEntity<Void> releaseSeats(
+            @PathVariable String id,
+            @Valid @RequestBody SeatBlock block) {
+        seatMapService.release(id, block);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(value = "/{id}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAvailableSeats(@PathVariable String id) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header("X-Accel-Buffering", "no")
+                .body(seatAvailabilityBroadcaster.subscribe(id, eventService::getEventById));
+    }
+
+    private ResponseEntity<List<?>> listing(List<?> events, String etag, Duration maxAge) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(maxAge))
+                .body(events);
+    }
+
+    private boolean isSummary(String view) {
+        return VIEW_SUMMARY.equalsIgnoreCase(view);
+    }
 }
@@ -0,0 +1,383 @@
+package com.eventplanner.eventcatalog.controller;
+
+import com.eventplanner.eventcatalog.cache.CatalogVersion;
+import com.eventplanner.eventcatalog.dto.BatchEventRequest;
+import com.eventplanner.eventcatalog.dto.BatchEventResponse;
+import com.eventplanner.eventcatalog.dto.ChangeFeedResponse;
+import com.eventplanner.eventcatalog.dto.EventPage;
+import com.eventplanner.eventcatalog.dto.EventRequest;
+import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.dto.EventStatsResponse;
+import com.eventplanner.eventcatalog.dto.ImportResponse;
+import com.eventplanner.eventcatalog.dto.OrganizerStatsResponse;
+import com.eventplanner.eventcatalog.dto.ReleaseSeatsRequest;
+import com.eventplanner.eventcatalog.dto.SearchRequest;
+import com.eventplanner.eventcatalog.dto.SearchResponse;
+import com.eventplanner.eventcatalog.dto.SeatBatchRequest;
+import com.eventplanner.eventcatalog.dto.SeatBatchResponse;
+import com.eventplanner.eventcatalog.dto.SeatBlock;
+import com.eventplanner.eventcatalog.dto.SeatClaimRequest;
+import com.eventplanner.eventcatalog.dto.SeatHoldRequest;
+import com.eventplanner.eventcatalog.dto.SeatHoldResponse;
+import com.eventplanner.eventcatalog.dto.SeatMapRequest;
+import com.eventplanner.eventcatalog.dto.SeatMapResponse;
+import com.eventplanner.eventcatalog.dto.StatsRebuildResponse;
+import com.eventplanner.eventcatalog.dto.SuggestionResponse;
+import com.eventplanner.eventcatalog.dto.UpdateSeatsRequest;
+import com.eventplanner.eventcatalog.hold.SeatHoldService;
+import com.eventplanner.eventcatalog.seatmap.SeatMapService;
+import com.eventplanner.eventcatalog.service.ChangeFeedService;
+import com.eventplanner.eventcatalog.service.EventImportService;
+import com.eventplanner.eventcatalog.service.EventSearchService;
+import com.eventplanner.eventcatalog.service.EventService;
+import com.eventplanner.eventcatalog.service.SeatBatchService;
+import com.eventplanner.eventcatalog.service.ReactiveEventService;
+import com.eventplanner.eventcatalog.stats.OrganizerStatsService;
+import com.eventplanner.eventcatalog.suggest.SuggestionIndex;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * WebFlux variant of {@link EventController}, active with the {@code reactive} profile.
+ * Single events, listings and pages are read through the reactive driver, with the same
+ * ETag and Cache-Control headers as the servlet controller; request {@code application/x-ndjson}
+ * to receive listings element by element. Endpoints backed by blocking components (search,
+ * change feed, stats, holds, seat maps, batch lookups, import) run on the bounded elastic
+ * scheduler. The live seat stream ({@code /{id}/seats/stream}) is only served in servlet
+ * mode, because the broadcaster writes through {@code SseEmitter}.
+ */
+@RestController
+@RequestMapping("/api/events")
+@Profile("reactive")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@Slf4j
+public class ReactiveEventController {
+
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+    private static final int IMPORT_PIPE_SIZE = 64 * 1024;
+
+    private final ReactiveEventService reactiveEventService;
+    private final EventService eventService;
+    private final EventSearchService eventSearchService;
+    private final ChangeFeedService changeFeedService;
+    private final SuggestionIndex suggestionIndex;
+    private final OrganizerStatsService organizerStatsService;
+    private final SeatMapService seatMapService;
+    private final SeatHoldService seatHoldService;
+    private final SeatBatchService seatBatchService;
+    private final EventImportService eventImportService;
+    private final CatalogVersion catalogVersion;
+
+    @Value("${catalog.http.event-max-age:5s}")
+    private Duration eventMaxAge;
+
+    @Value("${catalog.http.listing-max-age:30s}")
+    private Duration listingMaxAge;
+
+    @Value("${catalog.http.upcoming-max-age:10s}")
+    private Duration upcomingMaxAge;
+
+    @PostMapping
+    public Mono<ResponseEntity<EventResponse>> createEvent(
+            @Valid @RequestBody EventRequest request,
+            @RequestHeader(value = "X-User-Id", required = false, defaultValue = "1") String organizerId) {
+        return reactiveEventService.createEvent(request, organizerId)
+                .map(event -> new ResponseEntity<>(event, HttpStatus.CREATED));
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ImportResponse> importEvents(
+            @RequestBody Flux<DataBuffer> body,
+            @RequestHeader(value = "X-User-Id", required = false, defaultValue = "1") String organizerId) throws IOException {
+        // The importer parses a blocking stream, so the body is piped to it off the event loop
+        PipedOutputStream out = new PipedOutputStream();
+        PipedInputStream in = new PipedInputStream(out, IMPORT_PIPE_SIZE);
+        DataBufferUtils.write(body.publishOn(Schedulers.boundedElastic()), out)
+                .doFinally(signal -> closeQuietly(out))
+                .subscribe(DataBufferUtils.releaseConsumer(), e -> log.warn("Event import upload failed: {}", e.getMessage()));
+        return blocking(() -> {
+            try (in) {
+                return eventImportService.importEvents(in, organizerId);
+            }
+        });
+    }
+
+    @PutMapping("/{id}")
+    public Mono<EventResponse> updateEvent(
+            @PathVariable String id,
+            @Valid @RequestBody EventRequest request) {
+        return reactiveEventService.updateEvent(id, request);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EventResponse>> getEventById(@PathVariable String id, ServerWebExchange exchange) {
+        return reactiveEventService.getEventById(id).map(event -> {
+            String etag = CatalogVersion.eventTag(event.getId(), event.getUpdatedAt());
+            if (exchange.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<EventResponse>build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.maxAge(eventMaxAge))
+                    .body(event);
+        });
+    }
+
+    @PostMapping("/batch")
+    public Mono<BatchEventResponse> getEventsByIds(@Valid @RequestBody BatchEventRequest request) {
+        return blocking(() -> eventService.getEventsByIds(request.getIds()));
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<?>> getAllEvents(
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            ServerWebExchange exchange) {
+        return listing(exchange, catalogVersion.listingTag(), listingMaxAge, () -> isSummary(view)
+                ? reactiveEventService.getAllEventSummaries()
+                : reactiveEventService.getAllEvents());
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EventResponse> streamEvents(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String organizerId,
+            @RequestParam(defaultValue = "false") boolean upcoming) {
+        return reactiveEventService.streamEvents(category, organizerId, upcoming);
+    }
+
+    @GetMapping("/page")
+    public Mono<EventPage> getEventsPage(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String organizerId,
+            @RequestParam(defaultValue = "false") boolean upcoming,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return reactiveEventService.getEventsPage(category, organizerId, upcoming, cursor, size);
+    }
+
+    @GetMapping("/changes")
+    public Mono<ChangeFeedResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size) {
+        return blocking(() -> changeFeedService.getChanges(since, size));
+    }
+
+    @GetMapping(value = "/category/{category}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<?>> getEventsByCategory(
+            @PathVariable String category,
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            ServerWebExchange exchange) {
+        return listing(exchange, catalogVersion.listingTag(), listingMaxAge, () -> isSummary(view)
+                ? reactiveEventService.getEventSummariesByCategory(category)
+                : reactiveEventService.getEventsByCategory(category));
+    }
+
+    @GetMapping(value = "/organizer/{organizerId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<?>> getEventsByOrganizer(
+            @PathVariable String organizerId,
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            ServerWebExchange exchange) {
+        return listing(exchange, catalogVersion.listingTag(), listingMaxAge, () -> isSummary(view)
+                ? reactiveEventService.getEventSummariesByOrganizer(organizerId)
+                : reactiveEventService.getEventsByOrganizer(organizerId));
+    }
+
+    @GetMapping("/organizer/{organizerId}/stats")
+    public Mono<OrganizerStatsResponse> getOrganizerStats(@PathVariable String organizerId) {
+        return blocking(() -> organizerStatsService.getOrganizerStats(organizerId));
+    }
+
+    @GetMapping("/{id}/stats")
+    public Mono<EventStatsResponse> getEventStats(@PathVariable String id) {
+        return reactiveEventService.getEventById(id).map(OrganizerStatsService::getEventStats);
+    }
+
+    @PostMapping("/stats/rebuild")
+    public Mono<StatsRebuildResponse> rebuildStats() {
+        return blocking(organizerStatsService::rebuild);
+    }
+
+    @GetMapping(value = "/upcoming", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Flux<?>> getUpcomingEvents(
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            ServerWebExchange exchange) {
+        return listing(exchange, catalogVersion.listingTag(upcomingMaxAge), upcomingMaxAge, () -> isSummary(view)
+                ? reactiveEventService.getUpcomingEventSummaries()
+                : reactiveEventService.getUpcomingEvents());
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<List<EventResponse>>> searchEvents(@ModelAttribute SearchRequest request) {
+        return blocking(() -> eventSearchService.search(request)).map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextPage() != null) {
+                response.header(EventSearchService.NEXT_PAGE_HEADER, String.valueOf(page.getNextPage()));
+            }
+            return response.body(page.getEvents());
+        });
+    }
+
+    @GetMapping("/search/facets")
+    public Mono<SearchResponse> searchEventsWithFacets(@ModelAttribute SearchRequest request) {
+        return blocking(() -> eventSearchService.searchWithFacets(request));
+    }
+
+    @GetMapping("/suggest")
+    public Mono<List<SuggestionResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        // In-memory lookup, cheap enough to answer on the event loop
+        return Mono.fromSupplier(() -> suggestionIndex.suggest(prefix, Math.min(Math.max(limit, 1), 50)));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteEvent(@PathVariable String id) {
+        return reactiveEventService.deleteEvent(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @PatchMapping("/{id}/seats")
+    public Mono<ResponseEntity<EventResponse>> updateAvailableSeats(
+            @PathVariable String id,
+            @Valid @RequestBody UpdateSeatsRequest request) {
+        if (seatHoldService.isEnabled()) {
+            return blocking(() -> {
+                seatMapService.requireGeneralAdmission(id);
+                SeatHoldResponse hold = seatHoldService.hold(id, request.getSeatsToBook());
+                return ResponseEntity.ok()
+                        .header(SeatHoldService.HOLD_HEADER, hold.getHoldId())
+                        .body(hold.getEvent());
+            });
+        }
+        return blocking(() -> {
+            seatMapService.requireGeneralAdmission(id);
+            return id;
+        }).then(Mono.defer(() -> reactiveEventService.updateSeats(id, request.getSeatsToBook())))
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/{id}/seats/releases")
+    public Mono<EventResponse> releaseAvailableSeats(
+            @PathVariable String id,
+            @Valid @RequestBody ReleaseSeatsRequest request) {
+        return blocking(() -> {
+            seatMapService.requireGeneralAdmission(id);
+            return eventService.releaseSeats(id, request.getSeats());
+        });
+    }
+
+    @PostMapping("/{id}/seats/batch")
+    public Mono<SeatBatchResponse> updateAvailableSeatsBatch(
+            @PathVariable String id,
+            @Valid @RequestBody SeatBatchRequest request) {
+        return blocking(() -> {
+            seatMapService.requireGeneralAdmission(id);
+            return seatBatchService.reserve(id, request);
+        });
+    }
+
+    @PostMapping("/{id}/holds")
+    public Mono<ResponseEntity<SeatHoldResponse>> holdSeats(
+            @PathVariable String id,
+            @Valid @RequestBody SeatHoldRequest request) {
+        return blocking(() -> {
+            seatMapService.requireGeneralAdmission(id);
+            return new ResponseEntity<>(seatHoldService.hold(id, request.getSeats()), HttpStatus.CREATED);
+        });
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    public Mono<SeatHoldResponse> confirmHold(@PathVariable String holdId) {
+        return blocking(() -> seatHoldService.confirm(holdId));
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    public Mono<ResponseEntity<Void>> releaseHold(@PathVariable String holdId) {
+        return blocking(() -> {
+            seatHoldService.release(holdId);
+            return ResponseEntity.noContent().<Void>build();
+        });
+    }
+
+    @PutMapping("/{id}/seatmap")
+    public Mono<ResponseEntity<SeatMapResponse>> createSeatMap(
+            @PathVariable String id,
+            @Valid @RequestBody SeatMapRequest request) {
+        return blocking(() -> seatMapService.createSeatMap(id, request))
+                .map(seatMap -> new ResponseEntity<>(seatMap, HttpStatus.CREATED));
+    }
+
+    @GetMapping("/{id}/seatmap")
+    public Mono<SeatMapResponse> getSeatMap(@PathVariable String id) {
+        return blocking(() -> seatMapService.getSeatMap(id));
+    }
+
+    @PostMapping("/{id}/seatmap/claims")
+    public Mono<ResponseEntity<SeatBlock>> claimSeats(
+            @PathVariable String id,
+            @Valid @RequestBody SeatClaimRequest request) {
+        return blocking(() -> seatMapService.claim(id, request))
+                .map(block -> new ResponseEntity<>(block, HttpStatus.CREATED));
+    }
+
+    @PostMapping("/{id}/seatmap/releases")
+    public Mono<ResponseEntity<Void>> releaseSeats(
+            @PathVariable String id,
+            @Valid @RequestBody SeatBlock block) {
+        return blocking(() -> {
+            seatMapService.release(id, block);
+            return ResponseEntity.noContent().<Void>build();
+        });
+    }
+
+    private ResponseEntity<Flux<?>> listing(ServerWebExchange exchange, String etag, Duration maxAge,
+                                            Supplier<Flux<?>> events) {
+        if (exchange.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(maxAge))
+                .body(events.get());
+    }
+
+    private static void closeQuietly(PipedOutputStream out) {
+        try {
+            out.close();
+        } catch (IOException e) {
+            // The importer already stopped reading
+        }
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private boolean isSummary(String view) {
+        return VIEW_SUMMARY.equalsIgnoreCase(view);
+    }
+}
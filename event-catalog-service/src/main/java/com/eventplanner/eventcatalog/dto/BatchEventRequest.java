@@ -0,0 +1,19 @@
+package com.eventplanner.eventcatalog.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchEventRequest {
+    @NotEmpty(message = "At least one event id is required")
+    @Size(max = 500, message = "At most 500 event ids can be requested at once")
+    private List<@NotBlank(message = "Event ids must not be blank") String> ids;
+}
@@ -0,0 +1,17 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchEventResponse {
+    private List<EventResponse> events;
+    private List<String> missingIds;
+}
@@ -0,0 +1,18 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse {
+    private List<EventChange> changes;
+    private String nextToken;
+    private boolean hasMore;
+}
@@ -0,0 +1,22 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventChange {
+    public static final String UPSERT = "UPSERT";
+    public static final String DELETED = "DELETED";
+
+    private String id;
+    private String type;
+    private LocalDateTime changedAt;
+    private EventResponse event;
+}
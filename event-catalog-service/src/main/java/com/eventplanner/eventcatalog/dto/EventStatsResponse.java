@@ -0,0 +1,19 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventStatsResponse {
+    private String eventId;
+    private String organizerId;
+    private int capacity;
+    private int seatsSold;
+    private double fillRate;
+    private double revenue;
+}
@@ -0,0 +1,23 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSummaryResponse {
+    private String id;
+    private String title;
+    private String category;
+    private LocalDateTime eventDate;
+    private String location;
+    private Integer availableSeats;
+    private Double price;
+    private String status;
+}
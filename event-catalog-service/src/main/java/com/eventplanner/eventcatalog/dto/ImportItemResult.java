@@ -0,0 +1,17 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportItemResult {
+    private int index;
+    private String id;
+    private String status;
+    private List<String> errors;
+}
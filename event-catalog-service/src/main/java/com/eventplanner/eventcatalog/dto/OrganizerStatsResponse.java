@@ -0,0 +1,22 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizerStatsResponse {
+    private String organizerId;
+    private long events;
+    private long totalCapacity;
+    private long seatsSold;
+    private double fillRate;
+    private double revenue;
+    private LocalDateTime updatedAt;
+}
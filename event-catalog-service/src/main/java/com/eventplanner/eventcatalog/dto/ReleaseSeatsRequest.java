@@ -0,0 +1,16 @@
+package com.eventplanner.eventcatalog.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseSeatsRequest {
+    @NotNull(message = "Seats to release is required")
+    @Positive(message = "Seats to release must be positive")
+    private Integer seats;
+}
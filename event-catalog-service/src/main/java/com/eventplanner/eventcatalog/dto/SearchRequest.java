@@ -0,0 +1,26 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+public class SearchRequest {
+    private String query;
+    private String category;
+    private String location;
+    private Double minPrice;
+    private Double maxPrice;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private Integer size;
+
+    // Zero-based; the response names the next page while more results remain
+    private Integer page;
+}
@@ -0,0 +1,20 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAvailabilityResponse {
+    private String eventId;
+    private Integer availableSeats;
+    private Integer capacity;
+    private String status;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.eventplanner.eventcatalog.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatBatchRequest {
+    @NotEmpty(message = "At least one seat request is required")
+    @Size(max = 500, message = "At most 500 seat requests can be sent at once")
+    private List<@NotNull @Positive Integer> requests;
+
+    // Optional caller ids, one per request; a request id seen before gets its earlier result
+    @Size(max = 500, message = "At most 500 seat requests can be sent at once")
+    private List<@NotBlank String> requestIds;
+}
@@ -0,0 +1,19 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatBatchResponse {
+    private int reserved;
+    private int rejected;
+    private List<SeatBatchResult> results;
+    private EventResponse event;
+}
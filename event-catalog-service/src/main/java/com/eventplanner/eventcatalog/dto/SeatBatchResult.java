@@ -0,0 +1,20 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatBatchResult {
+    public static final String RESERVED = "RESERVED";
+    public static final String REJECTED = "REJECTED";
+    // Another delivery of the same request id is still being applied
+    public static final String PENDING = "PENDING";
+
+    private int index;
+    private int seats;
+    private String status;
+    private String holdId;
+}
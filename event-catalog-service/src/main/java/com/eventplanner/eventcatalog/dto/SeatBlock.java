@@ -0,0 +1,30 @@
+package com.eventplanner.eventcatalog.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatBlock {
+    @NotBlank(message = "Section is required")
+    private String section;
+
+    @NotNull(message = "Row is required")
+    @Min(value = 0, message = "Row cannot be negative")
+    private Integer row;
+
+    @NotNull(message = "Seat is required")
+    @Min(value = 0, message = "Seat cannot be negative")
+    private Integer seat;
+
+    @NotNull(message = "Seat count is required")
+    @Min(value = 1, message = "Seat count must be positive")
+    private Integer count;
+}
@@ -0,0 +1,30 @@
+package com.eventplanner.eventcatalog.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Claims {@code count} adjacent seats. With {@code row} and {@code seat} set the exact
+ * block is claimed; otherwise the best available block is picked, in {@code section}
+ * if given or in the first section that has room.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatClaimRequest {
+    private String section;
+
+    @NotNull(message = "Seat count is required")
+    @Min(value = 1, message = "Seat count must be positive")
+    @Max(value = 64, message = "At most 64 adjacent seats can be claimed at once")
+    private Integer count;
+
+    private Integer row;
+    private Integer seat;
+}
@@ -0,0 +1,17 @@
+package com.eventplanner.eventcatalog.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatMapRequest {
+    @NotEmpty(message = "At least one section is required")
+    private List<@Valid SeatSectionRequest> sections;
+}
@@ -0,0 +1,32 @@
+package com.eventplanner.eventcatalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatMapResponse {
+    private String eventId;
+    private int capacity;
+    private int available;
+    private List<Section> sections;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Section {
+        private String name;
+        private int rows;
+        private int seatsPerRow;
+        private int available;
+        // Taken-seat bitmap, ceil(seatsPerRow / 64) words per row, lowest bit = seat 0
+        private List<Long> taken;
+    }
+}
@@ -0,0 +1,24 @@
+package com.eventplanner.eventcatalog.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatSectionRequest {
+    @NotBlank(message = "Section name is required")
+    private String name;
+
+    @Min(value = 1, message = "A section needs at least one row")
+    @Max(value = 1000, message = "A section cannot have more than 1000 rows")
+    private int rows;
+
+    @Min(value = 1, message = "A row needs at least one seat")
+    @Max(value = 1000, message = "A row cannot have more than 1000 seats")
+    private int seatsPerRow;
+}
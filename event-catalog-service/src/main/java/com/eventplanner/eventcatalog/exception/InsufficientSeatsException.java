@@ -0,0 +1,7 @@
+package com.eventplanner.eventcatalog.exception;
+
+public class InsufficientSeatsException extends RuntimeException {
+    public InsufficientSeatsException(String message) {
+        super(message);
+    }
+}
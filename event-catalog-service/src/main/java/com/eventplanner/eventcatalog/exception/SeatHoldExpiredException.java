@@ -0,0 +1,7 @@
+package com.eventplanner.eventcatalog.exception;
+
+public class SeatHoldExpiredException extends RuntimeException {
+    public SeatHoldExpiredException(String message) {
+        super(message);
+    }
+}
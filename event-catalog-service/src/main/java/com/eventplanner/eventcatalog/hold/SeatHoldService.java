@@ -0,0 +1,307 @@
+package com.eventplanner.eventcatalog.hold;
+
+import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.dto.SeatBatchResponse;
+import com.eventplanner.eventcatalog.dto.SeatBatchResult;
+import com.eventplanner.eventcatalog.dto.SeatHoldResponse;
+import com.eventplanner.eventcatalog.exception.BadRequestException;
+import com.eventplanner.eventcatalog.exception.ResourceNotFoundException;
+import com.eventplanner.eventcatalog.exception.SeatHoldExpiredException;
+import com.eventplanner.eventcatalog.model.SeatHold;
+import com.eventplanner.eventcatalog.service.EventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Time-limited seat holds. A hold takes seats from inventory straight away and gives
+ * them back unless it is confirmed before {@code seat-holds.ttl}. Expiry is driven by a
+ * {@link HashedTimingWheel}, so each hold costs one timer rather than a share of a
+ * polling query. The {@code seat_holds} document is the arbiter. Confirm removes it;
+ * release and expiry first mark it RELEASING and delete it only once the seats are
+ * back, so a release that fails half way is retried by the orphan sweep. The wheel and
+ * its expiry threads only exist while holds are enabled; left-over holds from an
+ * earlier run are still returned by the sweep.
+ */
+@Service
+@Slf4j
+public class SeatHoldService {
+
+    public static final String HOLD_HEADER = "X-Seat-Hold-Id";
+
+    private final MongoTemplate mongoTemplate;
+    private final EventService eventService;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration orphanGrace;
+    private final HashedTimingWheel wheel;
+    private final Map<String, HashedTimingWheel.Timeout> timers = new ConcurrentHashMap<>();
+    private final ExecutorService expiryExecutor;
+    private final Counter created;
+    private final Counter confirmed;
+    private final Counter released;
+    private final Counter expired;
+    private final Counter dropped;
+
+    public SeatHoldService(MongoTemplate mongoTemplate,
+                           EventService eventService,
+                           MeterRegistry meterRegistry,
+                           @Value("${seat-holds.enabled:false}") boolean enabled,
+                           @Value("${seat-holds.ttl:10m}") Duration ttl,
+                           @Value("${seat-holds.tick:100ms}") Duration tick,
+                           @Value("${seat-holds.wheel-size:512}") int wheelSize,
+                           @Value("${seat-holds.orphan-grace:1m}") Duration orphanGrace,
+                           @Value("${seat-holds.expiry-threads:2}") int expiryThreads) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventService = eventService;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.orphanGrace = orphanGrace;
+        if (enabled) {
+            this.wheel = new HashedTimingWheel("seat-hold-wheel", tick, wheelSize);
+            AtomicInteger threadCount = new AtomicInteger();
+            this.expiryExecutor = Executors.newFixedThreadPool(expiryThreads, r -> {
+                Thread thread = new Thread(r, "seat-hold-expiry-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            Gauge.builder("events.holds.active", timers, Map::size)
+                    .description("Seat holds waiting for confirmation on this instance")
+                    .register(meterRegistry);
+            Gauge.builder("events.holds.timers", wheel, HashedTimingWheel::pending)
+                    .description("Timeouts queued in the hold timing wheel")
+                    .register(meterRegistry);
+        } else {
+            this.wheel = null;
+            this.expiryExecutor = null;
+        }
+        this.created = Counter.builder("events.holds").tag("outcome", "created").register(meterRegistry);
+        this.confirmed = Counter.builder("events.holds").tag("outcome", "confirmed").register(meterRegistry);
+        this.released = Counter.builder("events.holds").tag("outcome", "released").register(meterRegistry);
+        this.expired = Counter.builder("events.holds").tag("outcome", "expired").register(meterRegistry);
+        this.dropped = Counter.builder("events.holds").tag("outcome", "dropped")
+                .description("Holds removed without returning seats because the event was already at capacity")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        wheel.stop();
+        expiryExecutor.shutdownNow();
+    }
+
+    /** Re-arms timers for holds left by a previous run; holds already past due are released. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (!enabled) {
+            return;
+        }
+        try (Stream<SeatHold> holds = mongoTemplate.stream(new Query(), SeatHold.class)) {
+            long count = holds.peek(this::schedule).count();
+            if (count > 0) {
+                log.info("Re-armed {} seat hold timers", count);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to recover seat holds: {}", e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public SeatHoldResponse hold(String eventId, int seats) {
+        EventResponse event = eventService.updateSeats(eventId, seats);
+        LocalDateTime now = LocalDateTime.now();
+        SeatHold hold = SeatHold.builder()
+                .id(UUID.randomUUID().toString())
+                .eventId(eventId)
+                .seats(seats)
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .status(SeatHold.HoldStatus.HELD)
+                .build();
+        try {
+            mongoTemplate.insert(hold);
+        } catch (RuntimeException e) {
+            eventService.releaseSeats(eventId, seats);
+            throw e;
+        }
+        schedule(hold);
+        created.increment();
+        return toResponse(hold, event);
+    }
+
+    /** Holds every request of the batch that the event has seats for, one hold per accepted request. */
+    public SeatBatchResponse holdBatch(String eventId, List<Integer> requests) {
+        SeatBatchResponse batch = eventService.updateSeatsBatch(eventId, requests);
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatHold> holds = new ArrayList<>();
+        for (SeatBatchResult result : batch.getResults()) {
+            if (SeatBatchResult.RESERVED.equals(result.getStatus())) {
+                SeatHold hold = SeatHold.builder()
+                        .id(UUID.randomUUID().toString())
+                        .eventId(eventId)
+                        .seats(result.getSeats())
+                        .createdAt(now)
+                        .expiresAt(now.plus(ttl))
+                        .status(SeatHold.HoldStatus.HELD)
+                        .build();
+                result.setHoldId(hold.getId());
+                holds.add(hold);
+            }
+        }
+        if (holds.isEmpty()) {
+            return batch;
+        }
+        try {
+            mongoTemplate.insertAll(holds);
+        } catch (RuntimeException e) {
+            eventService.releaseSeats(eventId, holds.stream().mapToInt(SeatHold::getSeats).sum());
+            throw e;
+        }
+        holds.forEach(this::schedule);
+        created.increment(holds.size());
+        return batch;
+    }
+
+    public SeatHoldResponse confirm(String holdId) {
+        // A hold past its expiry is never confirmed, even if its timer has not fired yet
+        SeatHold hold = mongoTemplate.findAndRemove(new Query(Criteria.where("id").is(holdId)
+                .and("status").ne(SeatHold.HoldStatus.RELEASING)
+                .and("expiresAt").gt(LocalDateTime.now())), SeatHold.class);
+        if (hold == null) {
+            throw new SeatHoldExpiredException("Seat hold has expired or does not exist: " + holdId);
+        }
+        cancelTimer(holdId);
+        confirmed.increment();
+        log.info("Seat hold {} confirmed for event {} ({} seats)", holdId, hold.getEventId(), hold.getSeats());
+        return toResponse(hold, null);
+    }
+
+    /** Gives the seats back. Releasing a hold that already expired or was released is a no-op. */
+    public void release(String holdId) {
+        SeatHold hold = markReleasing(Criteria.where("id").is(holdId));
+        if (hold == null) {
+            return;
+        }
+        cancelTimer(holdId);
+        returnSeats(hold);
+        released.increment();
+    }
+
+    /** Safety net for holds whose timer lived on an instance that never came back. */
+    @Scheduled(fixedDelayString = "${seat-holds.orphan-sweep-ms:60000}")
+    public void releaseOrphans() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(orphanGrace);
+        Query query = new Query(new Criteria().orOperator(
+                        Criteria.where("expiresAt").lt(cutoff),
+                        Criteria.where("releasingAt").lt(cutoff)))
+                .with(Sort.by("expiresAt"))
+                .limit(1000);
+        query.fields().include("id");
+        try {
+            mongoTemplate.find(query, SeatHold.class).forEach(hold -> expire(hold.getId()));
+        } catch (RuntimeException e) {
+            log.error("Seat hold orphan sweep failed: {}", e.getMessage());
+        }
+    }
+
+    private void schedule(SeatHold hold) {
+        if (!enabled) {
+            return;
+        }
+        Duration delay = Duration.between(LocalDateTime.now(), hold.getExpiresAt());
+        String holdId = hold.getId();
+        timers.put(holdId, wheel.schedule(() -> expiryExecutor.execute(() -> expire(holdId)), delay));
+    }
+
+    private void expire(String holdId) {
+        timers.remove(holdId);
+        try {
+            SeatHold hold = markReleasing(Criteria.where("id").is(holdId).orOperator(
+                    Criteria.where("expiresAt").lte(LocalDateTime.now()),
+                    Criteria.where("status").is(SeatHold.HoldStatus.RELEASING)));
+            if (hold != null) {
+                returnSeats(hold);
+                expired.increment();
+            }
+        } catch (RuntimeException e) {
+            // The document is still there, so the orphan sweep retries it
+            log.error("Failed to expire seat hold {}: {}", holdId, e.getMessage());
+        }
+    }
+
+    /**
+     * Claims a hold for release. A hold already marked RELEASING is only taken over once
+     * its release has been stuck for {@code seat-holds.orphan-grace}, so two callers
+     * never return the same seats concurrently.
+     */
+    private SeatHold markReleasing(Criteria criteria) {
+        LocalDateTime now = LocalDateTime.now();
+        Criteria claimable = new Criteria().orOperator(
+                Criteria.where("status").ne(SeatHold.HoldStatus.RELEASING),
+                Criteria.where("releasingAt").lt(now.minus(orphanGrace)));
+        return mongoTemplate.findAndModify(new Query(new Criteria().andOperator(criteria, claimable)),
+                new Update().set("status", SeatHold.HoldStatus.RELEASING).set("releasingAt", now),
+                SeatHold.class);
+    }
+
+    private void returnSeats(SeatHold hold) {
+        try {
+            eventService.releaseSeats(hold.getEventId(), hold.getSeats());
+        } catch (ResourceNotFoundException e) {
+            log.info("Event {} of seat hold {} no longer exists, dropping the hold", hold.getEventId(), hold.getId());
+        } catch (BadRequestException e) {
+            // Retrying cannot succeed, so the hold is dropped rather than left for the sweep forever
+            log.error("Seats of hold {} could not be returned to event {}, dropping the hold: {}",
+                    hold.getId(), hold.getEventId(), e.getMessage());
+            dropped.increment();
+        }
+        mongoTemplate.remove(new Query(Criteria.where("id").is(hold.getId())), SeatHold.class);
+    }
+
+    private void cancelTimer(String holdId) {
+        HashedTimingWheel.Timeout timeout = timers.remove(holdId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private static SeatHoldResponse toResponse(SeatHold hold, EventResponse event) {
+        return SeatHoldResponse.builder()
+                .holdId(hold.getId())
+                .eventId(hold.getEventId())
+                .seats(hold.getSeats())
+                .expiresAt(hold.getExpiresAt())
+                .event(event)
+                .build();
+    }
+}
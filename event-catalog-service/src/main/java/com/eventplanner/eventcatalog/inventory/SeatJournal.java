@@ -0,0 +1,132 @@
+package com.eventplanner.eventcatalog.inventory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of seat deltas, written as one segment file per flush window.
+ * A segment is deleted only after its deltas have been applied to Mongo, so any
+ * segment found on startup still has to be replayed.
+ */
+@Slf4j
+final class SeatJournal {
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final boolean fsync;
+    private long segmentId;
+    private FileChannel channel;
+
+    SeatJournal(Path directory, boolean fsync) {
+        this.directory = directory;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create seat journal directory " + directory, e);
+        }
+    }
+
+    /** Segments left behind by a previous run, oldest first. */
+    List<Segment> pendingSegments() {
+        List<Segment> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(f -> f.getFileName().toString().startsWith(PREFIX))
+                    .sorted()
+                    .forEach(f -> segments.add(readSegment(f)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read seat journal " + directory, e);
+        }
+        return segments;
+    }
+
+    /** Closes the current segment (if any) and starts a new one; returns the closed segment id. */
+    long rotate(long minimumId) {
+        long closed = segmentId;
+        close();
+        // Ids only ever move forward from the last one applied, never from the wall clock
+        segmentId = Math.max(segmentId + 1, minimumId);
+        try {
+            channel = FileChannel.open(pathOf(segmentId),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open seat journal segment " + segmentId, e);
+        }
+        return closed;
+    }
+
+    void append(String eventId, int delta) {
+        ByteBuffer record = ByteBuffer.wrap((eventId + "," + delta + "\n").getBytes(StandardCharsets.UTF_8));
+        try {
+            channel.write(record);
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to seat journal", e);
+        }
+    }
+
+    void delete(long id) {
+        try {
+            Files.deleteIfExists(pathOf(id));
+        } catch (IOException e) {
+            log.warn("Could not delete applied seat journal segment {}: {}", id, e.getMessage());
+        }
+    }
+
+    void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(true);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Could not close seat journal segment {}: {}", segmentId, e.getMessage());
+        }
+        channel = null;
+    }
+
+    private Segment readSegment(Path file) {
+        String name = file.getFileName().toString();
+        long id = Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        Map<String, Integer> deltas = new HashMap<>();
+        try {
+            String[] lines = Files.readString(file, StandardCharsets.UTF_8).split("\n", -1);
+            // The last element is either empty or a record torn by a crash mid-write
+            for (int i = 0; i < lines.length - 1; i++) {
+                String line = lines[i];
+                int comma = line.lastIndexOf(',');
+                if (comma <= 0) {
+                    continue;
+                }
+                deltas.merge(line.substring(0, comma), Integer.parseInt(line.substring(comma + 1)), Integer::sum);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read seat journal segment " + file, e);
+        }
+        return new Segment(id, deltas);
+    }
+
+    private Path pathOf(long id) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, id, SUFFIX));
+    }
+
+    record Segment(long id, Map<String, Integer> deltas) {}
+}
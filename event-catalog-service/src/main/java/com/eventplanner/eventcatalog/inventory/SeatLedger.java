@@ -0,0 +1,304 @@
+package com.eventplanner.eventcatalog.inventory;
+
+import com.eventplanner.eventcatalog.exception.BadRequestException;
+import com.eventplanner.eventcatalog.exception.InsufficientSeatsException;
+import com.eventplanner.eventcatalog.exception.ResourceNotFoundException;
+import com.eventplanner.eventcatalog.exception.ServiceUnavailableException;
+import com.eventplanner.eventcatalog.model.Event;
+import com.eventplanner.eventcatalog.repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory seat inventory used when {@code inventory.mode=ledger}. Seat changes are
+ * answered from striped counters, journaled locally, and written behind to the
+ * {@code events} collection as one coalesced {@code $inc} per event per flush.
+ * Each flush stamps the documents it touches with its journal segment id, so
+ * replaying a segment after a crash never applies the same delta twice. Only one
+ * catalog instance may run in ledger mode; a Mongo lease enforces that.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.mode", havingValue = "ledger")
+@Slf4j
+public class SeatLedger {
+
+    private static final String SEGMENT_FIELD = "ledgerSegment";
+    private static final String LEASE_COLLECTION = "inventory_leases";
+    private static final String LEASE_ID = "seat-ledger";
+
+    private final EventRepository eventRepository;
+    private final MongoTemplate mongoTemplate;
+    private final SeatJournal journal;
+    private final long flushIntervalMs;
+    private final int flushBatchSize;
+    private final Duration leaseTtl;
+    private final String owner = UUID.randomUUID().toString();
+    private volatile boolean leaseHeld;
+    private final int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+    private final Map<String, LedgerEntry> entries = new ConcurrentHashMap<>();
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final Deque<SeatJournal.Segment> unapplied = new ArrayDeque<>();
+    private final AtomicInteger changesSinceFlush = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "seat-ledger-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SeatLedger(EventRepository eventRepository,
+                      MongoTemplate mongoTemplate,
+                      @Value("${inventory.journal-dir:seat-ledger}") String journalDir,
+                      @Value("${inventory.journal-fsync:false}") boolean journalFsync,
+                      @Value("${inventory.flush-interval-ms:200}") long flushIntervalMs,
+                      @Value("${inventory.flush-batch-size:500}") int flushBatchSize,
+                      @Value("${inventory.lease-ttl:30s}") Duration leaseTtl) {
+        this.eventRepository = eventRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.journal = new SeatJournal(Path.of(journalDir), journalFsync);
+        this.flushIntervalMs = flushIntervalMs;
+        this.flushBatchSize = flushBatchSize;
+        this.leaseTtl = leaseTtl;
+    }
+
+    @PostConstruct
+    void recover() {
+        if (!renewLease()) {
+            throw new IllegalStateException("Seat ledger is owned by another catalog instance; "
+                    + "run a single instance with inventory.mode=ledger");
+        }
+        long lastSegment = lastAppliedSegment();
+        for (SeatJournal.Segment segment : journal.pendingSegments()) {
+            log.info("Replaying seat journal segment {} ({} events)", segment.id(), segment.deltas().size());
+            apply(segment);
+            journal.delete(segment.id());
+            lastSegment = Math.max(lastSegment, segment.id());
+        }
+        journal.rotate(lastSegment + 1);
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        long renewMs = leaseTtl.toMillis() / 3;
+        flusher.scheduleWithFixedDelay(this::renewLeaseQuietly, renewMs, renewMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        journal.close();
+        mongoTemplate.remove(new Query(Criteria.where("id").is(LEASE_ID).and("owner").is(owner)), LEASE_COLLECTION);
+    }
+
+    /** Takes seats for an event and returns a snapshot carrying the new seat count. */
+    public Event reserve(String eventId, int seats) {
+        checkLease();
+        LedgerEntry entry = entryFor(eventId);
+        if (!entry.seats.tryAcquire(seats)) {
+            throw new InsufficientSeatsException("Cannot book more seats than available");
+        }
+        record(eventId, entry, seats);
+        return entry.view();
+    }
+
+    /** Returns seats to an event, e.g. after a cancelled booking. */
+    public Event release(String eventId, int seats) {
+        checkLease();
+        LedgerEntry entry = entryFor(eventId);
+        Integer capacity = entry.snapshot.getCapacity();
+        if (!entry.seats.tryRelease(seats, capacity == null ? Integer.MAX_VALUE : capacity)) {
+            throw new BadRequestException("Cannot release more seats than were booked");
+        }
+        record(eventId, entry, -seats);
+        return entry.view();
+    }
+
+    /** Overlays the in-memory seat count on a freshly read document, if the event is tracked. */
+    public Event overlay(Event event) {
+        LedgerEntry entry = entries.get(event.getId());
+        if (entry == null) {
+            return event;
+        }
+        entry.snapshot = event;
+        return entry.view();
+    }
+
+    public void remove(String eventId) {
+        entries.remove(eventId);
+    }
+
+    public void flush() {
+        SeatJournal.Segment segment;
+        flushLock.writeLock().lock();
+        try {
+            Map<String, Integer> deltas = new HashMap<>();
+            entries.forEach((id, entry) -> {
+                int delta = (int) entry.pending.sumThenReset();
+                if (delta != 0) {
+                    deltas.put(id, delta);
+                }
+            });
+            changesSinceFlush.set(0);
+            long segmentId = journal.rotate(0);
+            segment = new SeatJournal.Segment(segmentId, deltas);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+
+        synchronized (unapplied) {
+            unapplied.addLast(segment);
+            while (!unapplied.isEmpty()) {
+                SeatJournal.Segment next = unapplied.peekFirst();
+                apply(next);
+                journal.delete(next.id());
+                unapplied.removeFirst();
+            }
+        }
+    }
+
+    private void record(String eventId, LedgerEntry entry, int delta) {
+        flushLock.readLock().lock();
+        try {
+            journal.append(eventId, delta);
+            entry.pending.add(delta);
+            entry.lastModified = LocalDateTime.now();
+        } finally {
+            flushLock.readLock().unlock();
+        }
+        if (changesSinceFlush.incrementAndGet() >= flushBatchSize && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    private void apply(SeatJournal.Segment segment) {
+        if (segment.deltas().isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class);
+        LocalDateTime now = LocalDateTime.now();
+        segment.deltas().forEach((eventId, delta) -> bulk.updateOne(
+                new Query(Criteria.where("id").is(eventId).and(SEGMENT_FIELD).not().gte(segment.id())),
+                new Update().inc("availableSeats", -delta).set(SEGMENT_FIELD, segment.id()).set("updatedAt", now)));
+        bulk.execute();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Seat ledger flush failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    // Segment ids continue from the highest one stamped on any event, so a clock change cannot reuse them
+    private long lastAppliedSegment() {
+        Query query = new Query(Criteria.where(SEGMENT_FIELD).exists(true))
+                .with(Sort.by(Sort.Direction.DESC, SEGMENT_FIELD))
+                .limit(1);
+        query.fields().include(SEGMENT_FIELD);
+        Document last = mongoTemplate.findOne(query, Document.class, mongoTemplate.getCollectionName(Event.class));
+        return last == null ? 0 : ((Number) last.get(SEGMENT_FIELD)).longValue();
+    }
+
+    /**
+     * The ledger answers seat changes from this instance's memory, so a second writer
+     * would oversell. A lease document in {@code inventory_leases} admits one owner;
+     * it is renewed in the background and lapses {@code inventory.lease-ttl} after the
+     * owner stops.
+     */
+    private boolean renewLease() {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(Criteria.where("id").is(LEASE_ID)
+                .orOperator(Criteria.where("owner").is(owner), Criteria.where("expiresAt").lt(now)));
+        Update update = new Update().set("owner", owner).set("expiresAt", now.plus(leaseTtl));
+        try {
+            mongoTemplate.upsert(query, update, LEASE_COLLECTION);
+            leaseHeld = true;
+        } catch (DuplicateKeyException e) {
+            // The lease exists and belongs to a live owner
+            leaseHeld = false;
+        }
+        return leaseHeld;
+    }
+
+    private void renewLeaseQuietly() {
+        try {
+            if (!renewLease()) {
+                log.error("Seat ledger lease was taken by another instance; seat changes are refused");
+            }
+        } catch (RuntimeException e) {
+            log.error("Seat ledger lease renewal failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private void checkLease() {
+        if (!leaseHeld) {
+            throw new ServiceUnavailableException("Seat inventory is owned by another catalog instance, please retry");
+        }
+    }
+
+    private LedgerEntry entryFor(String eventId) {
+        return entries.computeIfAbsent(eventId, id -> {
+            Event event = eventRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
+            return new LedgerEntry(event, new StripedSeatCounter(event.getAvailableSeats(), stripes));
+        });
+    }
+
+    private static final class LedgerEntry {
+        private final StripedSeatCounter seats;
+        private final LongAdder pending = new LongAdder();
+        private volatile Event snapshot;
+        private volatile LocalDateTime lastModified;
+
+        private LedgerEntry(Event snapshot, StripedSeatCounter seats) {
+            this.snapshot = snapshot;
+            this.seats = seats;
+            this.lastModified = snapshot.getUpdatedAt();
+        }
+
+        private Event view() {
+            return snapshot.toBuilder()
+                    .availableSeats(seats.sum())
+                    .updatedAt(lastModified)
+                    .build();
+        }
+    }
+}
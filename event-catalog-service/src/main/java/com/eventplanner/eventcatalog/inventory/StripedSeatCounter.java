@@ -0,0 +1,90 @@
+package com.eventplanner.eventcatalog.inventory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Seat counter split into CAS-updated stripes so concurrent bookings on one event
+ * mostly touch different cache lines. A request is served from the caller's home
+ * stripe when possible and otherwise gathers seats from the other stripes under the
+ * counter's lock, handing them back if the gather comes up short. Capped releases
+ * take the same lock, so they never see seats that are halfway through a gather.
+ */
+final class StripedSeatCounter {
+
+    // Stripes are spaced one cache line apart to avoid false sharing
+    private static final int PAD = 8;
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+
+    StripedSeatCounter(int initialSeats, int stripes) {
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PAD);
+        int share = initialSeats / stripes;
+        int remainder = initialSeats % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.set(i * PAD, share + (i < remainder ? 1 : 0));
+        }
+    }
+
+    boolean tryAcquire(int seats) {
+        int home = homeStripe();
+        if (takeUpTo(home, seats, true) == seats) {
+            return true;
+        }
+
+        synchronized (this) {
+            int taken = 0;
+            for (int i = 0; i < stripes && taken < seats; i++) {
+                taken += takeUpTo((home + i) % stripes, seats - taken, false);
+            }
+            if (taken == seats) {
+                return true;
+            }
+            add(taken);
+            return false;
+        }
+    }
+
+    /** Returns seats unless that would leave more than {@code capacity} available. */
+    synchronized boolean tryRelease(int seats, int capacity) {
+        // Single-stripe takes only lower the sum, so a check that passes here stays true
+        if ((long) sum() + seats > capacity) {
+            return false;
+        }
+        add(seats);
+        return true;
+    }
+
+    private void add(int seats) {
+        if (seats > 0) {
+            cells.addAndGet(homeStripe() * PAD, seats);
+        }
+    }
+
+    int sum() {
+        long total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.get(i * PAD);
+        }
+        return (int) total;
+    }
+
+    private int takeUpTo(int stripe, int wanted, boolean allOrNothing) {
+        int index = stripe * PAD;
+        while (true) {
+            long current = cells.get(index);
+            if (current <= 0 || (allOrNothing && current < wanted)) {
+                return 0;
+            }
+            int take = (int) Math.min(current, wanted);
+            if (cells.compareAndSet(index, current, current - take)) {
+                return take;
+            }
+        }
+    }
+
+    private int homeStripe() {
+        return (int) (Thread.currentThread().getId() % stripes);
+    }
+}
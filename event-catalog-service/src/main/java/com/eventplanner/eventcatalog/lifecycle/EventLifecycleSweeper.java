@@ -0,0 +1,216 @@
+package com.eventplanner.eventcatalog.lifecycle;
+
+import com.eventplanner.eventcatalog.model.Event;
+import com.eventplanner.eventcatalog.service.CatalogChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Marks past published events as COMPLETED and, optionally, moves long-finished
+ * events into {@code events_archive}. Both passes walk the {status, eventDate}
+ * index in bounded batches so one run never holds a large result set. Only the
+ * instance holding the {@code lifecycle-sweeper} lease in {@code inventory_leases}
+ * sweeps; the lease outlives the interval, so the holder keeps it from run to run
+ * and another instance takes over {@code catalog.sweeper.lease-ttl} after it stops.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.sweeper.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class EventLifecycleSweeper {
+
+    public static final String ARCHIVE_COLLECTION = "events_archive";
+    private static final String LEASE_COLLECTION = "inventory_leases";
+    private static final String LEASE_ID = "lifecycle-sweeper";
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer duration;
+    private final Counter completed;
+    private final Counter archived;
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${catalog.sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${catalog.sweeper.max-batches:100}")
+    private int maxBatches;
+
+    @Value("${catalog.sweeper.archive-enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${catalog.sweeper.archive-after:30d}")
+    private Duration archiveAfter;
+
+    @Value("${catalog.sweeper.lease-ttl:10m}")
+    private Duration leaseTtl;
+
+    public EventLifecycleSweeper(MongoTemplate mongoTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+        this.duration = Timer.builder("events.sweeper.duration").register(meterRegistry);
+        this.completed = Counter.builder("events.sweeper.completed").register(meterRegistry);
+        this.archived = Counter.builder("events.sweeper.archived").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.sweeper.interval-ms:300000}",
+            initialDelayString = "${catalog.sweeper.initial-delay-ms:60000}")
+    public void sweep() {
+        duration.record(() -> {
+            try {
+                if (!acquireLease()) {
+                    log.debug("Lifecycle sweep skipped, another instance holds the lease");
+                    return;
+                }
+                int done = completePastEvents();
+                int moved = archiveEnabled ? archiveCompletedEvents() : 0;
+                if (done > 0 || moved > 0) {
+                    log.info("Lifecycle sweep completed {} events and archived {}", done, moved);
+                }
+            } catch (RuntimeException e) {
+                log.error("Lifecycle sweep failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    int completePastEvents() {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            // Mongo keeps millisecond precision, so the marker below has to match what is stored
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+            List<Event> batch = nextBatch(Event.EventStatus.PUBLISHED, now);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            mongoTemplate.updateMulti(
+                    new Query(Criteria.where("id").in(ids(batch)).and("status").is(Event.EventStatus.PUBLISHED)),
+                    new Update().set("status", Event.EventStatus.COMPLETED).set("updatedAt", now),
+                    Event.class);
+
+            // Events changed by someone else between the read and the update were skipped and are not announced
+            Map<String, Event> modified = mongoTemplate.find(new Query(Criteria.where("id").in(ids(batch))
+                            .and("status").is(Event.EventStatus.COMPLETED).and("updatedAt").is(now)), Event.class)
+                    .stream()
+                    .collect(Collectors.toMap(Event::getId, Function.identity()));
+            for (Event event : batch) {
+                Event current = modified.get(event.getId());
+                if (current != null) {
+                    eventPublisher.publishEvent(CatalogChangeEvent.updated(event, current));
+                }
+            }
+
+            completed.increment(modified.size());
+            total += modified.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    int archiveCompletedEvents() {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            List<Event> batch = nextBatch(Event.EventStatus.COMPLETED, LocalDateTime.now().minus(archiveAfter));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            // Upserting into the archive first keeps a batch re-runnable if the delete below fails
+            BulkOperations copy = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class, ARCHIVE_COLLECTION);
+            for (Event event : batch) {
+                copy.replaceOne(new Query(Criteria.where("id").is(event.getId())), event,
+                        FindAndReplaceOptions.options().upsert());
+            }
+            copy.execute();
+            mongoTemplate.remove(new Query(Criteria.where("id").in(ids(batch))
+                    .and("status").is(Event.EventStatus.COMPLETED)), Event.class);
+
+            // Anything still in events was reopened meanwhile, so its archive copy is dropped again
+            Set<String> kept = mongoTemplate.find(idsQuery(ids(batch)), Event.class).stream()
+                    .map(Event::getId)
+                    .collect(Collectors.toSet());
+            if (!kept.isEmpty()) {
+                mongoTemplate.remove(new Query(Criteria.where("id").in(kept)), Event.class, ARCHIVE_COLLECTION);
+            }
+
+            int moved = 0;
+            for (Event event : batch) {
+                if (!kept.contains(event.getId())) {
+                    eventPublisher.publishEvent(CatalogChangeEvent.archived(event));
+                    moved++;
+                }
+            }
+
+            archived.increment(moved);
+            total += moved;
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    @PreDestroy
+    void releaseLease() {
+        mongoTemplate.remove(new Query(Criteria.where("id").is(LEASE_ID).and("owner").is(owner)), LEASE_COLLECTION);
+    }
+
+    private boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(Criteria.where("id").is(LEASE_ID)
+                .orOperator(Criteria.where("owner").is(owner), Criteria.where("expiresAt").lt(now)));
+        try {
+            mongoTemplate.upsert(query, new Update().set("owner", owner).set("expiresAt", now.plus(leaseTtl)), LEASE_COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Held by another live instance
+            return false;
+        }
+    }
+
+    private List<Event> nextBatch(Event.EventStatus status, LocalDateTime before) {
+        Query query = new Query(Criteria.where("status").is(status).and("eventDate").lt(before))
+                .with(Sort.by(Sort.Order.asc("eventDate")))
+                .limit(batchSize);
+        return mongoTemplate.find(query, Event.class);
+    }
+
+    private Query idsQuery(List<String> ids) {
+        Query query = new Query(Criteria.where("id").in(ids));
+        query.fields().include("id");
+        return query;
+    }
+
+    private List<String> ids(List<Event> events) {
+        return events.stream().map(Event::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,345 @@
+package com.eventplanner.eventcatalog.live;
+
+import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.dto.SeatAvailabilityResponse;
+import com.eventplanner.eventcatalog.exception.ResourceNotFoundException;
+import com.eventplanner.eventcatalog.model.Event;
+import com.eventplanner.eventcatalog.service.CatalogChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Pushes seat availability to SSE subscribers of an event. Seat changes only mark
+ * the event's channel dirty; a ticker then serializes the latest state once and
+ * sends that same frame to every subscriber, so an on-sale produces at most one
+ * frame per event per {@code catalog.live.interval-ms} regardless of booking rate.
+ * Every subscriber drains its own bounded queue on the fanout pool; one that falls
+ * {@code catalog.live.subscriber-buffer} frames behind, or whose write has been stuck
+ * for {@code catalog.live.send-timeout}, is dropped. Emitter writes block, so the pool
+ * grows up to {@code catalog.live.fanout-max-threads} while slow clients hold threads,
+ * and a drain that finds it full is retried on the next frame.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class SeatAvailabilityBroadcaster {
+
+    private static final String SEATS_EVENT = "seats";
+    private static final String DELETED_EVENT = "deleted";
+
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+    private final long heartbeatMs;
+    private final int bufferSize;
+    private final long sendTimeoutMs;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter frames;
+    private final Counter dropped;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "seat-stream-ticker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ThreadPoolExecutor fanout;
+
+    public SeatAvailabilityBroadcaster(ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${catalog.live.interval-ms:500}") long intervalMs,
+                                       @Value("${catalog.live.heartbeat:15s}") Duration heartbeat,
+                                       @Value("${catalog.live.emitter-timeout:30m}") Duration emitterTimeout,
+                                       @Value("${catalog.live.fanout-threads:4}") int fanoutThreads,
+                                       @Value("${catalog.live.fanout-max-threads:64}") int fanoutMaxThreads,
+                                       @Value("${catalog.live.subscriber-buffer:16}") int bufferSize,
+                                       @Value("${catalog.live.send-timeout:5s}") Duration sendTimeout) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeout.toMillis();
+        this.heartbeatMs = heartbeat.toMillis();
+        this.bufferSize = bufferSize;
+        this.sendTimeoutMs = sendTimeout.toMillis();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.fanout = new ThreadPoolExecutor(fanoutThreads, Math.max(fanoutThreads, fanoutMaxThreads),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+            Thread thread = new Thread(r, "seat-stream-fanout-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("events.live.subscribers", subscribers, AtomicInteger::get)
+                .description("Open seat availability streams")
+                .register(meterRegistry);
+        Gauge.builder("events.live.channels", channels, Map::size)
+                .description("Events with at least one seat availability subscriber")
+                .register(meterRegistry);
+        this.frames = Counter.builder("events.live.frames")
+                .description("Seat availability frames delivered to subscribers")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("events.live.dropped")
+                .description("Seat availability subscribers dropped for falling behind")
+                .register(meterRegistry);
+
+        ticker.scheduleWithFixedDelay(this::tick, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ticker.shutdownNow();
+        fanout.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Opens a stream for an event and sends it the current availability straight away.
+     * The event is loaded again once the subscriber is registered, since a change made
+     * before registration was not announced to this channel.
+     */
+    public SseEmitter subscribe(String eventId, Function<String, EventResponse> loader) {
+        SeatAvailabilityResponse snapshot = toAvailability(loader.apply(eventId));
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        AtomicReference<Subscriber> created = new AtomicReference<>();
+        channels.compute(eventId, (id, existing) -> {
+            Channel target = existing == null ? new Channel() : existing;
+            Subscriber subscriber = new Subscriber(eventId, target, emitter, bufferSize);
+            // Queued before it becomes visible so the snapshot always goes out first
+            subscriber.queue.add(new Frame(frame(SEATS_EVENT, target.sequence.get(), snapshot), false));
+            target.subscribers.add(subscriber);
+            created.set(subscriber);
+            return target;
+        });
+        subscribers.incrementAndGet();
+
+        Subscriber subscriber = created.get();
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(subscriber));
+        drain(subscriber);
+
+        try {
+            SeatAvailabilityResponse current = toAvailability(loader.apply(eventId));
+            if (!current.equals(snapshot)) {
+                // A change announced after registration is newer still, so it is not overwritten
+                subscriber.channel.pending.compareAndSet(null, current);
+            }
+        } catch (ResourceNotFoundException e) {
+            unsubscribe(subscriber);
+            subscriber.closing = true;
+            enqueue(subscriber, new Frame(SseEmitter.event().name(DELETED_EVENT).data(eventId).build(), false));
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh seat availability for new subscriber of event {}: {}", eventId, e.getMessage());
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent change) {
+        Channel channel = channels.get(change.eventId());
+        if (channel == null) {
+            return;
+        }
+        switch (change.type()) {
+            case SEATS_UPDATED, UPDATED -> channel.pending.set(toAvailability(change.current()));
+            case DELETED, ARCHIVED -> close(change.eventId(), channel);
+            default -> {
+            }
+        }
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        channels.forEach((eventId, channel) -> {
+            boolean heartbeatDue = now - channel.lastSentAt >= heartbeatMs;
+            if (channel.pending.get() == null && !heartbeatDue) {
+                return;
+            }
+            SeatAvailabilityResponse latest = channel.pending.getAndSet(null);
+            Frame frame;
+            try {
+                frame = latest != null
+                        ? new Frame(frame(SEATS_EVENT, channel.sequence.incrementAndGet(), latest), true)
+                        : new Frame(SseEmitter.event().comment("keep-alive").build(), false);
+            } catch (RuntimeException e) {
+                log.error("Could not serialize seat availability for event {}: {}", eventId, e.getMessage());
+                return;
+            }
+            channel.lastSentAt = now;
+            channel.subscribers.forEach(subscriber -> enqueue(subscriber, frame));
+        });
+        // A client that stopped reading blocks its write until the socket times out; stop feeding it now
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> {
+            long since = subscriber.sendingSince;
+            if (since != 0 && now - since > sendTimeoutMs) {
+                drop(subscriber, "a write stuck for " + (now - since) + " ms");
+            }
+        }));
+    }
+
+    private void enqueue(Subscriber subscriber, Frame frame) {
+        if (!subscriber.queue.offer(frame)) {
+            drop(subscriber, bufferSize + " undelivered frames");
+            return;
+        }
+        drain(subscriber);
+    }
+
+    private void drop(Subscriber subscriber, String reason) {
+        log.debug("Dropping seat availability subscriber of event {} after {}", subscriber.eventId, reason);
+        dropped.increment();
+        unsubscribe(subscriber);
+        // The emitter's methods share one monitor, so completing it here would wait out a stuck write;
+        // the drain completes it once the write returns
+        subscriber.queue.clear();
+        subscriber.closing = true;
+        drain(subscriber);
+    }
+
+    private void drain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            fanout.execute(() -> send(subscriber));
+        } catch (RejectedExecutionException e) {
+            // Every fanout thread is busy; the frames stay queued for the next drain
+            if (subscriber.closing && subscriber.queue.isEmpty()) {
+                // No write is in flight while this thread holds the drain, so completing cannot block
+                subscriber.emitter.complete();
+            }
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            Frame frame;
+            while ((frame = subscriber.queue.poll()) != null) {
+                subscriber.sendingSince = System.currentTimeMillis();
+                subscriber.emitter.send(frame.data());
+                subscriber.sendingSince = 0;
+                if (frame.counted()) {
+                    frames.increment();
+                }
+            }
+            if (subscriber.closing) {
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container reports it through onError/onCompletion as well
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.sendingSince = 0;
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.queue.isEmpty()) {
+            drain(subscriber);
+        }
+    }
+
+    private void close(String eventId, Channel channel) {
+        channels.remove(eventId, channel);
+        Frame frame = new Frame(SseEmitter.event().name(DELETED_EVENT).data(eventId).build(), false);
+        for (Subscriber subscriber : channel.subscribers) {
+            unsubscribe(subscriber);
+            subscriber.closing = true;
+            enqueue(subscriber, frame);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        Channel channel = subscriber.channel;
+        if (channel.subscribers.remove(subscriber)) {
+            subscribers.decrementAndGet();
+        }
+        channels.computeIfPresent(subscriber.eventId, (id, current) ->
+                current == channel && channel.subscribers.isEmpty() ? null : current);
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> frame(String name, long sequence, SeatAvailabilityResponse body) {
+        try {
+            return SseEmitter.event()
+                    .name(name)
+                    .id(Long.toString(sequence))
+                    .data(objectMapper.writeValueAsString(body))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static SeatAvailabilityResponse toAvailability(EventResponse event) {
+        return SeatAvailabilityResponse.builder()
+                .eventId(event.getId())
+                .availableSeats(event.getAvailableSeats())
+                .capacity(event.getCapacity())
+                .status(event.getStatus())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+
+    private static SeatAvailabilityResponse toAvailability(Event event) {
+        return SeatAvailabilityResponse.builder()
+                .eventId(event.getId())
+                .availableSeats(event.getAvailableSeats())
+                .capacity(event.getCapacity())
+                .status(event.getStatus() == null ? null : event.getStatus().name())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+
+    private record Frame(Set<ResponseBodyEmitter.DataWithMediaType> data, boolean counted) {}
+
+    private static final class Subscriber {
+        private final String eventId;
+        private final Channel channel;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closing;
+        // Start of the write in progress, 0 while idle
+        private volatile long sendingSince;
+
+        private Subscriber(String eventId, Channel channel, SseEmitter emitter, int bufferSize) {
+            this.eventId = eventId;
+            this.channel = channel;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private static final class Channel {
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final AtomicReference<SeatAvailabilityResponse> pending = new AtomicReference<>();
+        private final AtomicLong sequence = new AtomicLong();
+        private volatile long lastSentAt = System.currentTimeMillis();
+    }
+}
@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 
 @Document(collection = "events")
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Event {
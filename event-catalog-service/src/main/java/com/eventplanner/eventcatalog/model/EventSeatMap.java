@@ -0,0 +1,37 @@
+package com.eventplanner.eventcatalog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Document(collection = "seat_maps")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSeatMap {
+
+    @Id
+    private String eventId;
+
+    private List<Section> sections;
+    private LocalDateTime createdAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Section {
+        private String name;
+        private int rows;
+        private int seatsPerRow;
+        // Taken-seat bitmap; each row starts on a fresh 64-bit word
+        private List<Long> words;
+    }
+}
@@ -0,0 +1,27 @@
+package com.eventplanner.eventcatalog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "organizer_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizerStats {
+
+    @Id
+    private String organizerId;
+
+    private long events;
+    private long totalCapacity;
+    private long seatsSold;
+    private double revenue;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.eventplanner.eventcatalog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "seat_holds")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHold {
+
+    @Id
+    private String id;
+
+    private String eventId;
+    private int seats;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private HoldStatus status;
+    private LocalDateTime releasingAt;
+
+    public enum HoldStatus {
+        HELD, RELEASING
+    }
+}
@@ -0,0 +1,28 @@
+package com.eventplanner.eventcatalog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/** Claim and then outcome of an identified seat request, kept so a redelivered request is answered, not reapplied. */
+@Document(collection = "seat_requests")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatRequestRecord {
+
+    @Id
+    private String id;
+
+    private String eventId;
+    private int seats;
+    private String status;
+    private String holdId;
+    private LocalDateTime createdAt;
+}
@@ -13,5 +13,9 @@ public interface EventRepository extends MongoRepository<Event, String> {
     List<Event> findByOrganizerId(String organizerId);
     List<Event> findByStatus(Event.EventStatus status);
     List<Event> findByEventDateAfter(LocalDateTime date);
-    List<Event> findByTitleContainingIgnoreCase(String title);
+
+    List<EventSummary> findSummaryBy();
+    List<EventSummary> findSummaryByCategory(String category);
+    List<EventSummary> findSummaryByOrganizerId(String organizerId);
+    List<EventSummary> findSummaryByEventDateAfter(LocalDateTime date);
 }
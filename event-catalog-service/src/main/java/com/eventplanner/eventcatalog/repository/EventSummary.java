@@ -0,0 +1,20 @@
+package com.eventplanner.eventcatalog.repository;
+
+import com.eventplanner.eventcatalog.model.Event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection of {@link Event} used by card-style listings; Mongo only
+ * returns these fields.
+ */
+public interface EventSummary {
+    String getId();
+    String getTitle();
+    String getCategory();
+    LocalDateTime getEventDate();
+    String getLocation();
+    Integer getAvailableSeats();
+    Double getPrice();
+    Event.EventStatus getStatus();
+}
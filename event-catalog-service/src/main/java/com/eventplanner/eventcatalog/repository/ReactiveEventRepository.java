@@ -0,0 +1,20 @@
+package com.eventplanner.eventcatalog.repository;
+
+import com.eventplanner.eventcatalog.model.Event;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReactiveEventRepository extends ReactiveMongoRepository<Event, String> {
+    Flux<Event> findByCategory(String category);
+    Flux<Event> findByOrganizerId(String organizerId);
+    Flux<Event> findByEventDateAfter(LocalDateTime date);
+
+    Flux<EventSummary> findSummaryBy();
+    Flux<EventSummary> findSummaryByCategory(String category);
+    Flux<EventSummary> findSummaryByOrganizerId(String organizerId);
+    Flux<EventSummary> findSummaryByEventDateAfter(LocalDateTime date);
+}
@@ -0,0 +1,324 @@
+package com.eventplanner.eventcatalog.seatmap;
+
+import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.dto.SeatBlock;
+import com.eventplanner.eventcatalog.dto.SeatClaimRequest;
+import com.eventplanner.eventcatalog.dto.SeatMapRequest;
+import com.eventplanner.eventcatalog.dto.SeatMapResponse;
+import com.eventplanner.eventcatalog.dto.SeatSectionRequest;
+import com.eventplanner.eventcatalog.exception.BadRequestException;
+import com.eventplanner.eventcatalog.exception.ResourceNotFoundException;
+import com.eventplanner.eventcatalog.model.EventSeatMap;
+import com.eventplanner.eventcatalog.service.CatalogChangeEvent;
+import com.eventplanner.eventcatalog.service.EventService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Assigned seating for events that have a seat map. Seat searches and claims run
+ * against in-memory {@link SectionBitmap}s; each claimed word is then set in
+ * {@code seat_maps} with a {@code $bitsAllClear}-guarded {@code $bit}, so another
+ * instance holding a stale bitmap loses cleanly and reloads. Every claim and release
+ * also moves {@code availableSeats} by the same amount.
+ */
+@Service
+@Slf4j
+public class SeatMapService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final EventService eventService;
+    private final Cache<String, List<SectionBitmap>> seatMaps;
+    private final Cache<String, Boolean> assignedSeating;
+
+    public SeatMapService(MongoTemplate mongoTemplate,
+                          EventService eventService,
+                          @Value("${catalog.seatmap.bitmap-max-size:1000}") long bitmapMaxSize,
+                          @Value("${catalog.seatmap.bitmap-ttl:1m}") Duration bitmapTtl,
+                          @Value("${catalog.seatmap.lookup-max-size:10000}") long lookupMaxSize,
+                          @Value("${catalog.seatmap.lookup-ttl:30s}") Duration lookupTtl) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventService = eventService;
+        // Seats released through another instance show up here once the bitmap is reloaded
+        this.seatMaps = Caffeine.newBuilder()
+                .maximumSize(bitmapMaxSize)
+                .expireAfterWrite(bitmapTtl)
+                .build();
+        // Bounds how long another instance keeps accepting general admission after a seat map is added
+        this.assignedSeating = Caffeine.newBuilder()
+                .maximumSize(lookupMaxSize)
+                .expireAfterWrite(lookupTtl)
+                .build();
+    }
+
+    public SeatMapResponse createSeatMap(String eventId, SeatMapRequest request) {
+        EventResponse event = eventService.getEventById(eventId);
+        List<SeatSectionRequest> sections = request.getSections();
+
+        if (sections.stream().map(SeatSectionRequest::getName).collect(Collectors.toSet()).size() != sections.size()) {
+            throw new BadRequestException("Section names must be unique");
+        }
+        int seats = sections.stream().mapToInt(s -> s.getRows() * s.getSeatsPerRow()).sum();
+        if (seats != event.getCapacity()) {
+            throw new BadRequestException("Seat map has " + seats + " seats but the event capacity is " + event.getCapacity());
+        }
+        if (!event.getCapacity().equals(event.getAvailableSeats())) {
+            throw new BadRequestException("A seat map can only be added before any seats are sold");
+        }
+
+        EventSeatMap seatMap = EventSeatMap.builder()
+                .eventId(eventId)
+                .sections(sections.stream()
+                        .map(s -> EventSeatMap.Section.builder()
+                                .name(s.getName())
+                                .rows(s.getRows())
+                                .seatsPerRow(s.getSeatsPerRow())
+                                .words(Collections.nCopies(s.getRows() * SectionBitmap.wordsPerRow(s.getSeatsPerRow()), 0L))
+                                .build())
+                        .collect(Collectors.toList()))
+                .createdAt(LocalDateTime.now())
+                .build();
+        try {
+            mongoTemplate.insert(seatMap);
+        } catch (DuplicateKeyException e) {
+            throw new BadRequestException("Event already has a seat map: " + eventId);
+        }
+        seatMaps.invalidate(eventId);
+        assignedSeating.invalidate(eventId);
+        return toResponse(eventId, load(eventId));
+    }
+
+    public SeatMapResponse getSeatMap(String eventId) {
+        return toResponse(eventId, load(eventId));
+    }
+
+    public boolean hasSeatMap(String eventId) {
+        return seatMaps.getIfPresent(eventId) != null || assignedSeating.get(eventId, id ->
+                mongoTemplate.exists(new Query(Criteria.where("eventId").is(id)), EventSeatMap.class));
+    }
+
+    /** Rejects general-admission seat changes for events whose seats are assigned. */
+    public void requireGeneralAdmission(String eventId) {
+        if (hasSeatMap(eventId)) {
+            throw new BadRequestException("Event " + eventId + " uses assigned seating, claim seats through its seat map");
+        }
+    }
+
+    public SeatBlock claim(String eventId, SeatClaimRequest request) {
+        boolean exact = request.getRow() != null && request.getSeat() != null;
+        int count = request.getCount();
+
+        boolean reloaded = false;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            List<SectionBitmap> sections = load(eventId);
+            if (request.getSection() != null && sections.stream().noneMatch(s -> s.name().equals(request.getSection()))) {
+                throw new BadRequestException("Unknown section: " + request.getSection());
+            }
+            int sectionIndex = -1;
+            int row = -1;
+            int seat = -1;
+            boolean contained = false;
+            for (int i = 0; i < sections.size() && sectionIndex < 0; i++) {
+                SectionBitmap section = sections.get(i);
+                if (request.getSection() != null && !request.getSection().equals(section.name())) {
+                    continue;
+                }
+                if (exact) {
+                    // Without a section the same row and seat exist in several sections; take the first free one
+                    if (section.contains(request.getRow(), request.getSeat(), count)) {
+                        contained = true;
+                        if (section.tryClaim(request.getRow(), request.getSeat(), count)) {
+                            sectionIndex = i;
+                            row = request.getRow();
+                            seat = request.getSeat();
+                        }
+                    }
+                } else {
+                    int start = section.findBestBlock(count);
+                    if (start >= 0) {
+                        sectionIndex = i;
+                        row = start / section.seatsPerRow();
+                        seat = start % section.seatsPerRow();
+                    }
+                }
+            }
+            if (sectionIndex < 0) {
+                if (exact && !contained) {
+                    throw new BadRequestException(request.getSection() != null
+                            ? "Seats are outside section " + request.getSection()
+                            : "Seats are outside every section");
+                }
+                if (!reloaded) {
+                    // The bitmap may predate releases made through another instance; check the stored map once
+                    seatMaps.invalidate(eventId);
+                    reloaded = true;
+                    continue;
+                }
+                throw new BadRequestException(exact
+                        ? "Seats are already taken"
+                        : "No block of " + count + " adjacent seats is available");
+            }
+
+            SectionBitmap section = sections.get(sectionIndex);
+            if (!exact && !section.tryClaim(row, seat, count)) {
+                continue;
+            }
+            if (!persistClaim(eventId, sectionIndex, section, row, seat, count)) {
+                // Another instance took some of these seats; reload and search again
+                seatMaps.invalidate(eventId);
+                continue;
+            }
+            try {
+                eventService.updateSeats(eventId, count);
+            } catch (RuntimeException e) {
+                persistRelease(eventId, sectionIndex, section, row, seat, count);
+                section.release(row, seat, count);
+                throw e;
+            }
+            return SeatBlock.builder().section(section.name()).row(row).seat(seat).count(count).build();
+        }
+        throw new BadRequestException("Seats are in high demand, please retry");
+    }
+
+    public void release(String eventId, SeatBlock block) {
+        List<SectionBitmap> sections = load(eventId);
+        int sectionIndex = -1;
+        for (int i = 0; i < sections.size(); i++) {
+            if (sections.get(i).name().equals(block.getSection())) {
+                sectionIndex = i;
+            }
+        }
+        if (sectionIndex < 0) {
+            throw new BadRequestException("Unknown section: " + block.getSection());
+        }
+        SectionBitmap section = sections.get(sectionIndex);
+        if (!section.contains(block.getRow(), block.getSeat(), block.getCount())) {
+            throw new BadRequestException("Seats are outside section " + section.name());
+        }
+
+        if (!persistRelease(eventId, sectionIndex, section, block.getRow(), block.getSeat(), block.getCount())) {
+            seatMaps.invalidate(eventId);
+            throw new BadRequestException("Seats are not taken");
+        }
+        section.release(block.getRow(), block.getSeat(), block.getCount());
+        eventService.releaseSeats(eventId, block.getCount());
+    }
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent change) {
+        if (change.type() == CatalogChangeEvent.ChangeType.DELETED) {
+            seatMaps.invalidate(change.eventId());
+            assignedSeating.invalidate(change.eventId());
+            mongoTemplate.remove(new Query(Criteria.where("eventId").is(change.eventId())), EventSeatMap.class);
+        } else if (change.type() == CatalogChangeEvent.ChangeType.ARCHIVED) {
+            // The stored map stays with the archived event as a record of who sat where
+            seatMaps.invalidate(change.eventId());
+            assignedSeating.invalidate(change.eventId());
+        }
+    }
+
+    private List<SectionBitmap> load(String eventId) {
+        return seatMaps.get(eventId, id -> {
+            EventSeatMap seatMap = mongoTemplate.findById(id, EventSeatMap.class);
+            if (seatMap == null) {
+                throw new ResourceNotFoundException("Seat map not found for event: " + id);
+            }
+            return seatMap.getSections().stream()
+                    .map(s -> new SectionBitmap(s.getName(), s.getRows(), s.getSeatsPerRow(), s.getWords()))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    private boolean persistClaim(String eventId, int sectionIndex, SectionBitmap section, int row, int seat, int count) {
+        List<long[]> masks = section.wordMasks(row, seat, count);
+        for (int i = 0; i < masks.size(); i++) {
+            String field = wordField(sectionIndex, masks.get(i)[0]);
+            long mask = masks.get(i)[1];
+            Query query = new Query(Criteria.where("eventId").is(eventId).and(field).bits().allClear(positions(mask)));
+            if (mongoTemplate.updateFirst(query, new Update().bitwise(field).or(mask), EventSeatMap.class).getMatchedCount() == 0) {
+                for (int j = 0; j < i; j++) {
+                    clearWord(eventId, wordField(sectionIndex, masks.get(j)[0]), masks.get(j)[1]);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean persistRelease(String eventId, int sectionIndex, SectionBitmap section, int row, int seat, int count) {
+        List<long[]> masks = section.wordMasks(row, seat, count);
+        for (int i = 0; i < masks.size(); i++) {
+            String field = wordField(sectionIndex, masks.get(i)[0]);
+            long mask = masks.get(i)[1];
+            Query query = new Query(Criteria.where("eventId").is(eventId).and(field).bits().allSet(positions(mask)));
+            if (mongoTemplate.updateFirst(query, new Update().bitwise(field).and(~mask), EventSeatMap.class).getMatchedCount() == 0) {
+                for (int j = 0; j < i; j++) {
+                    mongoTemplate.updateFirst(new Query(Criteria.where("eventId").is(eventId)),
+                            new Update().bitwise(wordField(sectionIndex, masks.get(j)[0])).or(masks.get(j)[1]),
+                            EventSeatMap.class);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void clearWord(String eventId, String field, long mask) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("eventId").is(eventId)),
+                new Update().bitwise(field).and(~mask), EventSeatMap.class);
+    }
+
+    private static String wordField(int sectionIndex, long wordIndex) {
+        return "sections." + sectionIndex + ".words." + wordIndex;
+    }
+
+    // $bitsAllClear/$bitsAllSet only take non-negative 32-bit numeric masks, so pass bit positions
+    private static List<Integer> positions(long mask) {
+        List<Integer> positions = new ArrayList<>(Long.bitCount(mask));
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            positions.add(Long.numberOfTrailingZeros(bits));
+        }
+        return positions;
+    }
+
+    private static SeatMapResponse toResponse(String eventId, List<SectionBitmap> sections) {
+        List<SeatMapResponse.Section> views = new ArrayList<>();
+        int capacity = 0;
+        int available = 0;
+        for (SectionBitmap section : sections) {
+            int sectionAvailable = section.available();
+            capacity += section.capacity();
+            available += sectionAvailable;
+            views.add(SeatMapResponse.Section.builder()
+                    .name(section.name())
+                    .rows(section.rows())
+                    .seatsPerRow(section.seatsPerRow())
+                    .available(sectionAvailable)
+                    .taken(section.snapshot())
+                    .build());
+        }
+        return SeatMapResponse.builder()
+                .eventId(eventId)
+                .capacity(capacity)
+                .available(available)
+                .sections(views)
+                .build();
+    }
+}
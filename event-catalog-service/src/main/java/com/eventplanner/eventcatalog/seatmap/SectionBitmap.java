@@ -0,0 +1,193 @@
+package com.eventplanner.eventcatalog.seatmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Taken/free bitmap for one section, one bit per seat. Every row starts on its own
+ * 64-bit word, so a block never spans rows and a claim touches at most
+ * {@code count / 64 + 2} words. Claims are lock-free: each word is set with a CAS
+ * and already-set words are rolled back if a later word is taken.
+ */
+final class SectionBitmap {
+
+    private final String name;
+    private final int rows;
+    private final int seatsPerRow;
+    private final int wordsPerRow;
+    private final AtomicLongArray words;
+
+    SectionBitmap(String name, int rows, int seatsPerRow, List<Long> taken) {
+        this.name = name;
+        this.rows = rows;
+        this.seatsPerRow = seatsPerRow;
+        this.wordsPerRow = wordsPerRow(seatsPerRow);
+        this.words = new AtomicLongArray(rows * wordsPerRow);
+        if (taken != null) {
+            for (int i = 0; i < taken.size() && i < words.length(); i++) {
+                words.set(i, taken.get(i));
+            }
+        }
+    }
+
+    static int wordsPerRow(int seatsPerRow) {
+        return (seatsPerRow + 63) >>> 6;
+    }
+
+    String name() {
+        return name;
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    int seatsPerRow() {
+        return seatsPerRow;
+    }
+
+    int capacity() {
+        return rows * seatsPerRow;
+    }
+
+    int available() {
+        int taken = 0;
+        for (int i = 0; i < words.length(); i++) {
+            taken += Long.bitCount(words.get(i));
+        }
+        return capacity() - taken;
+    }
+
+    List<Long> snapshot() {
+        List<Long> snapshot = new ArrayList<>(words.length());
+        for (int i = 0; i < words.length(); i++) {
+            snapshot.add(words.get(i));
+        }
+        return snapshot;
+    }
+
+    boolean contains(int row, int seat, int count) {
+        return row >= 0 && row < rows && seat >= 0 && count > 0 && seat + count <= seatsPerRow;
+    }
+
+    /**
+     * Best available block of {@code count} adjacent seats: the front-most row that has
+     * one, and within that row the block closest to the centre. Returns the block's
+     * start as {@code row * seatsPerRow + seat}, or -1 if no row has room.
+     */
+    int findBestBlock(int count) {
+        if (count <= 0 || count > seatsPerRow) {
+            return -1;
+        }
+        double centre = (seatsPerRow - count) / 2.0;
+        for (int row = 0; row < rows; row++) {
+            int best = -1;
+            int seat = 0;
+            while (seat < seatsPerRow) {
+                int runStart = nextFree(row, seat);
+                if (runStart < 0) {
+                    break;
+                }
+                int runEnd = nextTaken(row, runStart);
+                if (runEnd - runStart >= count) {
+                    int candidate = (int) Math.round(Math.min(Math.max(centre, runStart), runEnd - count));
+                    if (best < 0 || Math.abs(candidate - centre) < Math.abs(best - centre)) {
+                        best = candidate;
+                    }
+                }
+                seat = runEnd;
+            }
+            if (best >= 0) {
+                return row * seatsPerRow + best;
+            }
+        }
+        return -1;
+    }
+
+    /** Atomically takes seats [seat, seat + count) of a row; false if any of them is taken. */
+    boolean tryClaim(int row, int seat, int count) {
+        int from = seat;
+        int end = seat + count;
+        while (from < end) {
+            int to = Math.min(end, (from & ~63) + 64);
+            int index = wordIndex(row, from);
+            long mask = mask(from & 63, to - (from & ~63));
+            long current;
+            do {
+                current = words.get(index);
+                if ((current & mask) != 0) {
+                    if (from > seat) {
+                        release(row, seat, from - seat);
+                    }
+                    return false;
+                }
+            } while (!words.compareAndSet(index, current, current | mask));
+            from = to;
+        }
+        return true;
+    }
+
+    void release(int row, int seat, int count) {
+        int from = seat;
+        int end = seat + count;
+        while (from < end) {
+            int to = Math.min(end, (from & ~63) + 64);
+            int index = wordIndex(row, from);
+            long mask = mask(from & 63, to - (from & ~63));
+            long current;
+            do {
+                current = words.get(index);
+            } while (!words.compareAndSet(index, current, current & ~mask));
+            from = to;
+        }
+    }
+
+    /** Word index and bit mask for each word touched by a block, in order. */
+    List<long[]> wordMasks(int row, int seat, int count) {
+        List<long[]> masks = new ArrayList<>(2);
+        int from = seat;
+        int end = seat + count;
+        while (from < end) {
+            int to = Math.min(end, (from & ~63) + 64);
+            masks.add(new long[]{wordIndex(row, from), mask(from & 63, to - (from & ~63))});
+            from = to;
+        }
+        return masks;
+    }
+
+    private int nextFree(int row, int seat) {
+        while (seat < seatsPerRow) {
+            long word = words.get(wordIndex(row, seat));
+            long free = ~word & (-1L << (seat & 63));
+            if (free != 0) {
+                int found = (seat & ~63) + Long.numberOfTrailingZeros(free);
+                return found < seatsPerRow ? found : -1;
+            }
+            seat = (seat & ~63) + 64;
+        }
+        return -1;
+    }
+
+    private int nextTaken(int row, int seat) {
+        while (seat < seatsPerRow) {
+            long word = words.get(wordIndex(row, seat));
+            long taken = word & (-1L << (seat & 63));
+            if (taken != 0) {
+                return Math.min((seat & ~63) + Long.numberOfTrailingZeros(taken), seatsPerRow);
+            }
+            seat = (seat & ~63) + 64;
+        }
+        return seatsPerRow;
+    }
+
+    private int wordIndex(int row, int seat) {
+        return row * wordsPerRow + (seat >>> 6);
+    }
+
+    /** Bits [from, to) of a word, 0 <= from < to <= 64. */
+    private static long mask(int from, int to) {
+        long upper = to == 64 ? -1L : (1L << to) - 1;
+        return upper & (-1L << from);
+    }
+}
@@ -0,0 +1,35 @@
+package com.eventplanner.eventcatalog.service;
+
+import com.eventplanner.eventcatalog.model.Event;
+
+/**
+ * Published synchronously by {@link EventService} after every catalog write so
+ * in-process indexes and caches can follow the change.
+ */
+public record CatalogChangeEvent(ChangeType type, String eventId, Event previous, Event current, int seats) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, SEATS_UPDATED, DELETED, ARCHIVED
+    }
+
+    public static CatalogChangeEvent created(Event event) {
+        return new CatalogChangeEvent(ChangeType.CREATED, event.getId(), null, event, 0);
+    }
+
+    public static CatalogChangeEvent updated(Event previous, Event current) {
+        return new CatalogChangeEvent(ChangeType.UPDATED, current.getId(), previous, current, 0);
+    }
+
+    public static CatalogChangeEvent seatsUpdated(Event current, int seats) {
+        return new CatalogChangeEvent(ChangeType.SEATS_UPDATED, current.getId(), null, current, seats);
+    }
+
+    public static CatalogChangeEvent deleted(Event previous) {
+        return new CatalogChangeEvent(ChangeType.DELETED, previous.getId(), previous, null, 0);
+    }
+
+    /** Moved to {@code events_archive}: gone from the live catalog but still part of the history. */
+    public static CatalogChangeEvent archived(Event previous) {
+        return new CatalogChangeEvent(ChangeType.ARCHIVED, previous.getId(), previous, null, 0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.eventplanner.eventcatalog.service;
+
+import com.eventplanner.eventcatalog.dto.ChangeFeedResponse;
+import com.eventplanner.eventcatalog.dto.EventChange;
+import com.eventplanner.eventcatalog.exception.ChangeTokenExpiredException;
+import com.eventplanner.eventcatalog.model.Event;
+import com.eventplanner.eventcatalog.model.EventTombstone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Delta sync over the catalog. Changes are read in (updatedAt, id) order from
+ * {@code events}, merged with deletion tombstones, and resumed from an opaque token.
+ * The newest {@code catalog.changes.safety-lag} is held back so a write that got
+ * its timestamp earlier but committed later is not skipped by a consumer.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+    private static final Comparator<EventChange> FEED_ORDER =
+            Comparator.comparing(EventChange::getChangedAt).thenComparing(EventChange::getId);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${catalog.changes.default-size:100}")
+    private int defaultSize;
+
+    @Value("${catalog.changes.max-size:1000}")
+    private int maxSize;
+
+    @Value("${catalog.changes.safety-lag:2s}")
+    private Duration safetyLag;
+
+    @Value("${catalog.changes.tombstone-ttl:7d}")
+    private Duration tombstoneTtl;
+
+    public ChangeFeedResponse getChanges(String since, Integer size) {
+        int pageSize = size == null ? defaultSize : Math.min(Math.max(size, 1), maxSize);
+        ChangeToken after = since == null || since.isBlank() ? null : ChangeToken.decode(since);
+        LocalDateTime now = LocalDateTime.now();
+        if (after != null && after.syncedTo().isBefore(now.minus(tombstoneTtl))) {
+            throw new ChangeTokenExpiredException("Change token is older than the tombstone retention, resync required");
+        }
+        LocalDateTime horizon = now.minus(safetyLag);
+
+        List<EventChange> changes = new ArrayList<>();
+        mongoTemplate.find(feedQuery("updatedAt", after, horizon, pageSize + 1), Event.class)
+                .forEach(event -> changes.add(EventChange.builder()
+                        .id(event.getId())
+                        .type(EventChange.UPSERT)
+                        .changedAt(event.getUpdatedAt())
+                        .event(EventMapper.toResponse(event))
+                        .build()));
+        mongoTemplate.find(feedQuery("deletedAt", after, horizon, pageSize + 1), EventTombstone.class)
+                .forEach(tombstone -> changes.add(EventChange.builder()
+                        .id(tombstone.getId())
+                        .type(EventChange.DELETED)
+                        .changedAt(tombstone.getDeletedAt())
+                        .build()));
+        changes.sort(FEED_ORDER);
+
+        boolean hasMore = changes.size() > pageSize;
+        List<EventChange> page = hasMore ? changes.subList(0, pageSize) : changes;
+        // A full page only covers deletions up to its last change; otherwise the reader is caught up to the horizon
+        ChangeToken next;
+        if (!page.isEmpty()) {
+            EventChange last = page.get(page.size() - 1);
+            next = new ChangeToken(last.getChangedAt(), last.getId(), hasMore ? last.getChangedAt() : horizon);
+        } else if (after != null) {
+            next = new ChangeToken(after.timestamp(), after.id(), horizon);
+        } else {
+            next = new ChangeToken(horizon, "", horizon);
+        }
+
+        return ChangeFeedResponse.builder()
+                .changes(new ArrayList<>(page))
+                .nextToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent change) {
+        if (change.type() == CatalogChangeEvent.ChangeType.DELETED) {
+            mongoTemplate.save(new EventTombstone(change.eventId(), LocalDateTime.now()));
+        }
+    }
+
+    private Query feedQuery(String timestampField, ChangeToken after, LocalDateTime horizon, int limit) {
+        Criteria criteria = Criteria.where(timestampField).lte(horizon);
+        if (after != null) {
+            criteria = new Criteria().andOperator(criteria, new Criteria().orOperator(
+                    Criteria.where(timestampField).gt(after.timestamp()),
+                    Criteria.where(timestampField).is(after.timestamp()).and("id").gt(after.id())));
+        }
+        return new Query(criteria)
+                .with(Sort.by(Sort.Order.asc(timestampField), Sort.Order.asc("id")))
+                .limit(limit);
+    }
+}
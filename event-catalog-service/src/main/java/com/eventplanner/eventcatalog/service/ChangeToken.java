@@ -0,0 +1,32 @@
+package com.eventplanner.eventcatalog.service;
+
+import com.eventplanner.eventcatalog.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Change feed continuation token. Besides the feed position it records
+ * {@code syncedTo}, the time up to which the holder has seen every deletion, so
+ * an idle consumer polling an unchanged catalog does not age out of the
+ * tombstone retention.
+ */
+record ChangeToken(LocalDateTime timestamp, String id, LocalDateTime syncedTo) {
+
+    String encode() {
+        String raw = timestamp + "|" + syncedTo + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            return new ChangeToken(LocalDateTime.parse(parts[0]), parts[2], LocalDateTime.parse(parts[1]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid change token: " + token);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.eventplanner.eventcatalog.service;
+
+import com.eventplanner.eventcatalog.dto.EventRequest;
+import com.eventplanner.eventcatalog.dto.ImportItemResult;
+import com.eventplanner.eventcatalog.dto.ImportResponse;
+import com.eventplanner.eventcatalog.model.Event;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a JSON array or NDJSON body of {@link EventRequest}s, validates each one
+ * and inserts the valid ones in unordered bulk batches. Only one batch of documents
+ * is held in memory at a time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventImportService {
+
+    private final EventService eventService;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${catalog.import.batch-size:1000}")
+    private int batchSize;
+
+    public ImportResponse importEvents(InputStream body, String organizerId) throws IOException {
+        List<ImportItemResult> results = new ArrayList<>();
+        List<Event> batch = new ArrayList<>(batchSize);
+        List<ImportItemResult> batchResults = new ArrayList<>(batchSize);
+
+        try (MappingIterator<EventRequest> items = objectMapper.readerFor(EventRequest.class).readValues(body)) {
+            int index = 0;
+            while (true) {
+                EventRequest request;
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    request = items.nextValue();
+                } catch (MismatchedInputException e) {
+                    // The iterator skips past the bad item and carries on with the next one
+                    results.add(failure(index++, List.of(e.getOriginalMessage())));
+                    continue;
+                } catch (JsonProcessingException e) {
+                    results.add(failure(index, List.of("Malformed input, import stopped: " + e.getOriginalMessage())));
+                    break;
+                }
+
+                Set<ConstraintViolation<EventRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    results.add(failure(index++, violations.stream()
+                            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                            .sorted()
+                            .collect(Collectors.toList())));
+                    continue;
+                }
+
+                Event event = eventService.newEvent(request, organizerId);
+                event.setId(new ObjectId().toHexString());
+                batch.add(event);
+                ImportItemResult result = new ImportItemResult(index++, event.getId(), "CREATED", null);
+                batchResults.add(result);
+                results.add(result);
+
+                if (batch.size() >= batchSize) {
+                    insert(batch, batchResults);
+                }
+            }
+        }
+        insert(batch, batchResults);
+
+        int created = (int) results.stream().filter(r -> "CREATED".equals(r.getStatus())).count();
+        log.info("Imported {} events for organizer {}, {} failed", created, organizerId, results.size() - created);
+        return ImportResponse.builder()
+                .created(created)
+                .failed(results.size() - created)
+                .results(results)
+                .build();
+    }
+
+    private void insert(List<Event> batch, List<ImportItemResult> batchResults) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, String> errors = new HashMap<>();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class)
+                    .insert(batch)
+                    .execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                errors.put(error.getIndex(), error.getMessage());
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            ImportItemResult result = batchResults.get(i);
+            if (errors.containsKey(i)) {
+                result.setStatus("FAILED");
+                result.setId(null);
+                result.setErrors(List.of(errors.get(i)));
+            } else {
+                eventPublisher.publishEvent(CatalogChangeEvent.created(batch.get(i)));
+            }
+        }
+        batch.clear();
+        batchResults.clear();
+    }
+
+    private ImportItemResult failure(int index, List<String> errors) {
+        return new ImportItemResult(index, null, "INVALID", errors);
+    }
+}
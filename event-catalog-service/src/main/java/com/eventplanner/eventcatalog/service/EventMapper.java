@@ -0,0 +1,44 @@
+package com.eventplanner.eventcatalog.service;
+
+import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.dto.EventSummaryResponse;
+import com.eventplanner.eventcatalog.model.Event;
+import com.eventplanner.eventcatalog.repository.EventSummary;
+
+public final class EventMapper {
+
+    private EventMapper() {
+    }
+
+    public static EventResponse toResponse(Event event) {
+        return EventResponse.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .category(event.getCategory())
+                .eventDate(event.getEventDate())
+                .location(event.getLocation())
+                .capacity(event.getCapacity())
+                .availableSeats(event.getAvailableSeats())
+                .price(event.getPrice())
+                .organizerId(event.getOrganizerId())
+                .imageUrl(event.getImageUrl())
+                .status(event.getStatus().name())
+                .createdAt(event.getCreatedAt())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+
+    public static EventSummaryResponse toSummary(EventSummary event) {
+        return EventSummaryResponse.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .category(event.getCategory())
+                .eventDate(event.getEventDate())
+                .location(event.getLocation())
+                .availableSeats(event.getAvailableSeats())
+                .price(event.getPrice())
+                .status(event.getStatus().name())
+                .build();
+    }
+}
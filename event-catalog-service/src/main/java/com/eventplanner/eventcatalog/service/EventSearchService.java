@@ -0,0 +1,163 @@
+package com.eventplanner.eventcatalog.service;
+
+import com.eventplanner.eventcatalog.dto.FacetBucket;
+import com.eventplanner.eventcatalog.dto.SearchRequest;
+import com.eventplanner.eventcatalog.dto.SearchPage;
+import com.eventplanner.eventcatalog.dto.SearchResponse;
+import com.eventplanner.eventcatalog.exception.BadRequestException;
+import com.eventplanner.eventcatalog.model.Event;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Relevance-ranked event search over the weighted {@code event_text} index, with
+ * category, price band and month facets computed in one aggregation. Results are
+ * paged by offset: a page that has more after it names the next one, which
+ * {@code /search} returns in the {@value #NEXT_PAGE_HEADER} header. Offsets are capped at
+ * {@code catalog.search.max-offset}, past which a narrower query is needed.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventSearchService {
+
+    public static final String NEXT_PAGE_HEADER = "X-Next-Page";
+
+    // Lower bounds of the price facet; the last band is closed so only missing or negative prices land in "other"
+    private static final Object[] PRICE_BANDS = {0, 25, 50, 100, 250, Double.MAX_VALUE};
+    private static final String OTHER_BUCKET = "other";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${catalog.page.default-size:20}")
+    private int defaultSize;
+
+    @Value("${catalog.page.max-size:100}")
+    private int maxSize;
+
+    @Value("${catalog.search.max-offset:10000}")
+    private int maxOffset;
+
+    public SearchPage search(SearchRequest request) {
+        int size = request.getSize() == null ? defaultSize : Math.min(Math.max(request.getSize(), 1), maxSize);
+        int page = request.getPage() == null ? 0 : request.getPage();
+        if (page < 0 || (long) page * size > maxOffset) {
+            throw new BadRequestException("Search pages are limited to the first " + maxOffset + " results");
+        }
+        Criteria filters = filters(request);
+
+        Query query;
+        if (hasText(request)) {
+            query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(request.getQuery()))
+                    .sortByScore();
+        } else {
+            query = new Query().with(Sort.by(Sort.Order.asc("eventDate"), Sort.Order.asc("id")));
+        }
+        if (filters != null) {
+            query.addCriteria(filters);
+        }
+        // One extra result tells whether another page follows
+        query.skip((long) page * size).limit(size + 1);
+
+        List<Event> events = mongoTemplate.find(query, Event.class);
+        boolean more = events.size() > size;
+        return SearchPage.builder()
+                .events(events.stream().limit(size).map(EventMapper::toResponse).collect(Collectors.toList()))
+                .nextPage(more && (long) (page + 1) * size <= maxOffset ? page + 1 : null)
+                .build();
+    }
+
+    public SearchResponse searchWithFacets(SearchRequest request) {
+        SearchPage page = search(request);
+
+        // $text has to be the first stage of the pipeline
+        List<AggregationOperation> stages = new ArrayList<>();
+        if (hasText(request)) {
+            stages.add(Aggregation.match(TextCriteria.forDefaultLanguage().matching(request.getQuery())));
+        }
+        Criteria filters = filters(request);
+        if (filters != null) {
+            stages.add(Aggregation.match(filters));
+        }
+
+        FacetOperation facets = Aggregation.facet(Aggregation.count().as("count")).as("total")
+                .and(Aggregation.sortByCount("category")).as("category")
+                .and(Aggregation.bucket("price").withBoundaries(PRICE_BANDS).withDefaultBucket(OTHER_BUCKET)
+                        .andOutputCount().as("count")).as("price")
+                .and(Aggregation.project().and(DateOperators.dateOf("eventDate").toString("%Y-%m")).as("month"),
+                        Aggregation.group("month").count().as("count"),
+                        Aggregation.sort(Sort.by("_id"))).as("month");
+
+        stages.add(facets);
+
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(Event.class, stages), Document.class)
+                .getUniqueMappedResult();
+
+        Map<String, List<FacetBucket>> facetCounts = new LinkedHashMap<>();
+        long total = 0;
+        if (result != null) {
+            List<Document> totals = result.getList("total", Document.class);
+            total = totals.isEmpty() ? 0 : ((Number) totals.get(0).get("count")).longValue();
+            facetCounts.put("category", buckets(result.getList("category", Document.class)));
+            facetCounts.put("price", buckets(result.getList("price", Document.class)));
+            facetCounts.put("month", buckets(result.getList("month", Document.class)));
+        }
+
+        return SearchResponse.builder()
+                .events(page.getEvents())
+                .total(total)
+                .nextPage(page.getNextPage())
+                .facets(facetCounts)
+                .build();
+    }
+
+    private Criteria filters(SearchRequest request) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (request.getCategory() != null) {
+            criteria.add(Criteria.where("category").is(request.getCategory()));
+        }
+        if (request.getLocation() != null) {
+            criteria.add(Criteria.where("location").is(request.getLocation()));
+        }
+        if (request.getMinPrice() != null) {
+            criteria.add(Criteria.where("price").gte(request.getMinPrice()));
+        }
+        if (request.getMaxPrice() != null) {
+            criteria.add(Criteria.where("price").lte(request.getMaxPrice()));
+        }
+        if (request.getFrom() != null) {
+            criteria.add(Criteria.where("eventDate").gte(request.getFrom()));
+        }
+        if (request.getTo() != null) {
+            criteria.add(Criteria.where("eventDate").lte(request.getTo()));
+        }
+        return criteria.isEmpty() ? null : new Criteria().andOperator(criteria);
+    }
+
+    private boolean hasText(SearchRequest request) {
+        return request.getQuery() != null && !request.getQuery().isBlank();
+    }
+
+    private List<FacetBucket> buckets(List<Document> documents) {
+        return documents.stream()
+                .map(d -> new FacetBucket(String.valueOf(d.get("_id")), ((Number) d.get("count")).longValue()))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,24 +1,77 @@
 package com.eventplanner.eventcatalog.service;
 
+import com.eventplanner.eventcatalog.cache.EventCache;
+import com.eventplanner.eventcatalog.cache.ListingCache;
+import com.eventplanner.eventcatalog.dto.BatchEventResponse;
+import com.eventplanner.eventcatalog.dto.EventPage;
 import com.eventplanner.eventcatalog.dto.EventRequest;
 import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.dto.EventSummaryResponse;
+import com.eventplanner.eventcatalog.dto.SeatBatchResponse;
+import com.eventplanner.eventcatalog.dto.SeatBatchResult;
+import com.eventplanner.eventcatalog.exception.BadRequestException;
+import com.eventplanner.eventcatalog.exception.InsufficientSeatsException;
 import com.eventplanner.eventcatalog.exception.ResourceNotFoundException;
+import com.eventplanner.eventcatalog.inventory.SeatLedger;
 import com.eventplanner.eventcatalog.model.Event;
 import com.eventplanner.eventcatalog.repository.EventRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
     private final EventRepository eventRepository;
+    private final MongoTemplate mongoTemplate;
+    private final Optional<SeatLedger> seatLedger;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventCache eventCache;
+    private final ListingCache listingCache;
+
+    @Value("${catalog.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${catalog.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${catalog.seats.batch-attempts:3}")
+    private int batchAttempts;
 
     public EventResponse createEvent(EventRequest request, String organizerId) {
+        Event event = eventRepository.save(newEvent(request, organizerId));
+        eventPublisher.publishEvent(CatalogChangeEvent.created(event));
+        return EventMapper.toResponse(event);
+    }
+
+    Event newEvent(EventRequest request, String organizerId) {
         Event.EventStatus status = Event.EventStatus.PUBLISHED;
         if (request.getStatus() != null) {
             try {
@@ -28,7 +81,7 @@ public class EventService {
             }
         }
 
-        Event event = Event.builder()
+        return Event.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .category(request.getCategory())
@@ -43,113 +96,382 @@ public class EventService {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
-
-        event = eventRepository.save(event);
-        return convertToEventResponse(event);
     }
 
     public EventResponse updateEvent(String id, EventRequest request) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
+        Event.EventStatus status = parseStatus(request.getStatus());
+        LocalDateTime now = LocalDateTime.now();
+        Update update = editableFields(request, status, now);
 
-        event.setTitle(request.getTitle());
-        event.setDescription(request.getDescription());
-        event.setCategory(request.getCategory());
-        event.setEventDate(request.getEventDate());
-        event.setLocation(request.getLocation());
-        event.setCapacity(request.getCapacity());
-        event.setPrice(request.getPrice());
-        event.setImageUrl(request.getImageUrl());
+        Event previous = mongoTemplate.findAndModify(new Query(Criteria.where("id").is(id)), update, Event.class);
+        if (previous == null) {
+            throw new ResourceNotFoundException("Event not found with id: " + id);
+        }
 
-        if (request.getStatus() != null) {
-            try {
-                event.setStatus(Event.EventStatus.valueOf(request.getStatus().toUpperCase()));
-            } catch (IllegalArgumentException ignored) {
-            }
+        Event event = applyEdits(previous, request, status, now);
+        if (seatLedger.isPresent()) {
+            event = seatLedger.get().overlay(event);
         }
+        eventPublisher.publishEvent(CatalogChangeEvent.updated(previous, event));
+        return EventMapper.toResponse(event);
+    }
 
-        event.setUpdatedAt(LocalDateTime.now());
+    static Event.EventStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return Event.EventStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 
-        event = eventRepository.save(event);
-        return convertToEventResponse(event);
+    // Only the editable fields are written so a concurrent seat update is never overwritten
+    static Update editableFields(EventRequest request, Event.EventStatus status, LocalDateTime now) {
+        Update update = new Update()
+                .set("title", request.getTitle())
+                .set("description", request.getDescription())
+                .set("category", request.getCategory())
+                .set("eventDate", request.getEventDate())
+                .set("location", request.getLocation())
+                .set("capacity", request.getCapacity())
+                .set("price", request.getPrice())
+                .set("imageUrl", request.getImageUrl())
+                .set("updatedAt", now);
+        if (status != null) {
+            update.set("status", status);
+        }
+        return update;
+    }
+
+    static Event applyEdits(Event previous, EventRequest request, Event.EventStatus status, LocalDateTime now) {
+        return previous.toBuilder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .category(request.getCategory())
+                .eventDate(request.getEventDate())
+                .location(request.getLocation())
+                .capacity(request.getCapacity())
+                .price(request.getPrice())
+                .imageUrl(request.getImageUrl())
+                .status(status != null ? status : previous.getStatus())
+                .updatedAt(now)
+                .build();
     }
 
     public EventResponse getEventById(String id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
-        return convertToEventResponse(event);
+        if (seatLedger.isPresent()) {
+            event = seatLedger.get().overlay(event);
+        }
+        return EventMapper.toResponse(event);
+    }
+
+    public EventCache.CachedEvent getCachedEvent(String id) {
+        return eventCache.get(id, this::getEventById);
+    }
+
+    public BatchEventResponse getEventsByIds(List<String> ids) {
+        Map<String, EventResponse> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            EventResponse cached = eventCache.getIfPresent(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (Event event : eventRepository.findAllById(misses)) {
+                if (seatLedger.isPresent()) {
+                    event = seatLedger.get().overlay(event);
+                }
+                EventResponse response = EventMapper.toResponse(event);
+                eventCache.put(response);
+                found.put(event.getId(), response);
+            }
+        }
+
+        List<EventResponse> events = new ArrayList<>();
+        List<String> missingIds = new ArrayList<>();
+        for (String id : ids) {
+            EventResponse event = found.get(id);
+            if (event != null) {
+                events.add(event);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return BatchEventResponse.builder()
+                .events(events)
+                .missingIds(missingIds)
+                .build();
     }
 
     public List<EventResponse> getAllEvents() {
         return eventRepository.findAll().stream()
-                .map(this::convertToEventResponse)
+                .map(EventMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     public List<EventResponse> getEventsByCategory(String category) {
-        return eventRepository.findByCategory(category).stream()
-                .map(this::convertToEventResponse)
-                .collect(Collectors.toList());
+        // The cache key and the query must use the same value
+        String value = category.trim();
+        return listingCache.get(ListingCache.Kind.CATEGORY, value, () ->
+                eventRepository.findByCategory(value).stream()
+                        .map(EventMapper::toResponse)
+                        .collect(Collectors.toList()));
     }
 
     public List<EventResponse> getEventsByOrganizer(String organizerId) {
-        return eventRepository.findByOrganizerId(organizerId).stream()
-                .map(this::convertToEventResponse)
-                .collect(Collectors.toList());
+        String value = organizerId.trim();
+        return listingCache.get(ListingCache.Kind.ORGANIZER, value, () ->
+                eventRepository.findByOrganizerId(value).stream()
+                        .map(EventMapper::toResponse)
+                        .collect(Collectors.toList()));
     }
 
     public List<EventResponse> getUpcomingEvents() {
-        return eventRepository.findByEventDateAfter(LocalDateTime.now()).stream()
-                .map(this::convertToEventResponse)
+        return listingCache.get(ListingCache.Kind.UPCOMING, null, () ->
+                eventRepository.findByEventDateAfter(LocalDateTime.now()).stream()
+                        .map(EventMapper::toResponse)
+                        .collect(Collectors.toList()));
+    }
+
+    public List<EventSummaryResponse> getAllEventSummaries() {
+        return eventRepository.findSummaryBy().stream()
+                .map(EventMapper::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    public List<EventSummaryResponse> getEventSummariesByCategory(String category) {
+        return eventRepository.findSummaryByCategory(category).stream()
+                .map(EventMapper::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    public List<EventSummaryResponse> getEventSummariesByOrganizer(String organizerId) {
+        return eventRepository.findSummaryByOrganizerId(organizerId).stream()
+                .map(EventMapper::toSummary)
                 .collect(Collectors.toList());
     }
 
-    public List<EventResponse> searchEvents(String query) {
-        return eventRepository.findByTitleContainingIgnoreCase(query).stream()
-                .map(this::convertToEventResponse)
+    public List<EventSummaryResponse> getUpcomingEventSummaries() {
+        return eventRepository.findSummaryByEventDateAfter(LocalDateTime.now()).stream()
+                .map(EventMapper::toSummary)
                 .collect(Collectors.toList());
     }
 
+    public EventPage getEventsPage(String category, String organizerId, boolean upcoming, String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        EventCursor after = cursor == null || cursor.isBlank() ? null : EventCursor.decode(cursor);
+
+        Query query = listingQuery(category, organizerId, upcoming, after).limit(pageSize + 1);
+        return toPage(mongoTemplate.find(query, Event.class), pageSize);
+    }
+
+    int pageSize(Integer size) {
+        return size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+    }
+
+    // Pages are read with one extra event to learn whether another page follows
+    static EventPage toPage(List<Event> events, int pageSize) {
+        String nextCursor = null;
+        if (events.size() > pageSize) {
+            events = events.subList(0, pageSize);
+            Event last = events.get(pageSize - 1);
+            nextCursor = new EventCursor(last.getEventDate(), last.getId()).encode();
+        }
+
+        return EventPage.builder()
+                .events(events.stream().map(EventMapper::toResponse).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public void streamEvents(String category, String organizerId, boolean upcoming, OutputStream out) throws IOException {
+        // Each document is written as one NDJSON line straight from the Mongo cursor
+        ObjectWriter writer = objectMapper.writerFor(EventResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        Query query = listingQuery(category, organizerId, upcoming, null).cursorBatchSize(maxPageSize);
+        try (Stream<Event> events = mongoTemplate.stream(query, Event.class)) {
+            Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(out, EventMapper.toResponse(iterator.next()));
+                out.write('\n');
+            }
+        }
+        out.flush();
+    }
+
+    static Query listingQuery(String category, String organizerId, boolean upcoming, EventCursor after) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (category != null) {
+            criteria.add(Criteria.where("category").is(category));
+        }
+        if (organizerId != null) {
+            criteria.add(Criteria.where("organizerId").is(organizerId));
+        }
+        if (upcoming) {
+            criteria.add(Criteria.where("eventDate").gt(LocalDateTime.now()));
+        }
+        if (after != null) {
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("eventDate").gt(after.timestamp()),
+                    Criteria.where("eventDate").is(after.timestamp()).and("id").gt(after.id())));
+        }
+
+        Query query = criteria.isEmpty() ? new Query() : new Query(new Criteria().andOperator(criteria));
+        return query.with(Sort.by(Sort.Order.asc("eventDate"), Sort.Order.asc("id")));
+    }
+
     public void deleteEvent(String id) {
-        if (!eventRepository.existsById(id)) {
+        Event previous = mongoTemplate.findAndRemove(new Query(Criteria.where("id").is(id)), Event.class);
+        if (previous == null) {
             throw new ResourceNotFoundException("Event not found with id: " + id);
         }
-        eventRepository.deleteById(id);
+        seatLedger.ifPresent(ledger -> ledger.remove(id));
+        eventPublisher.publishEvent(CatalogChangeEvent.deleted(previous));
     }
 
     public EventResponse updateSeats(String id, Integer seatsToBook) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
+        if (seatLedger.isPresent()) {
+            Event event = seatLedger.get().reserve(id, seatsToBook);
+            eventPublisher.publishEvent(CatalogChangeEvent.seatsUpdated(event, seatsToBook));
+            return EventMapper.toResponse(event);
+        }
+
+        // Decrease available seats in a single conditional update so concurrent bookings cannot oversell
+        Query query = new Query(Criteria.where("id").is(id).and("availableSeats").gte(seatsToBook));
+        Update update = new Update()
+                .inc("availableSeats", -seatsToBook)
+                .set("updatedAt", LocalDateTime.now());
+
+        Event event = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Event.class);
+        if (event == null) {
+            if (!eventRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Event not found with id: " + id);
+            }
+            throw new InsufficientSeatsException("Cannot book more seats than available");
+        }
+
+        eventPublisher.publishEvent(CatalogChangeEvent.seatsUpdated(event, seatsToBook));
+        return EventMapper.toResponse(event);
+    }
+
+    /**
+     * Reserves a batch of seat requests against one event. Requests are taken in order
+     * while seats remain, and the accepted ones are applied as a single conditional
+     * {@code $inc}; a request that does not fit is rejected without failing the rest.
+     */
+    public SeatBatchResponse updateSeatsBatch(String id, List<Integer> requests) {
+        List<SeatBatchResult> results = new ArrayList<>(requests.size());
+        Event event = null;
+        int total = 0;
+
+        if (seatLedger.isPresent()) {
+            for (int i = 0; i < requests.size(); i++) {
+                int seats = requests.get(i);
+                try {
+                    event = seatLedger.get().reserve(id, seats);
+                    total += seats;
+                    results.add(new SeatBatchResult(i, seats, SeatBatchResult.RESERVED, null));
+                } catch (InsufficientSeatsException e) {
+                    results.add(new SeatBatchResult(i, seats, SeatBatchResult.REJECTED, null));
+                }
+            }
+        } else {
+            for (int attempt = 0; attempt < batchAttempts && event == null; attempt++) {
+                Event current = eventRepository.findById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
+                results.clear();
+                total = 0;
+                for (int i = 0; i < requests.size(); i++) {
+                    int seats = requests.get(i);
+                    boolean fits = total + seats <= current.getAvailableSeats();
+                    total += fits ? seats : 0;
+                    results.add(new SeatBatchResult(i, seats, fits ? SeatBatchResult.RESERVED : SeatBatchResult.REJECTED, null));
+                }
+                if (total == 0) {
+                    event = current;
+                    break;
+                }
+                // Seats changed since the read if this misses; re-plan against the new count
+                Query query = new Query(Criteria.where("id").is(id).and("availableSeats").gte(total));
+                Update update = new Update()
+                        .inc("availableSeats", -total)
+                        .set("updatedAt", LocalDateTime.now());
+                event = mongoTemplate.findAndModify(query, update,
+                        FindAndModifyOptions.options().returnNew(true), Event.class);
+            }
+            if (event == null) {
+                return updateSeatsOneByOne(id, requests);
+            }
+        }
+
+        if (total > 0) {
+            eventPublisher.publishEvent(CatalogChangeEvent.seatsUpdated(event, total));
+        }
+        return toBatchResponse(results, event == null ? null : EventMapper.toResponse(event));
+    }
 
-        // Decrease available seats
-        int newAvailableSeats = event.getAvailableSeats() - seatsToBook;
-        if (newAvailableSeats < 0) {
-            throw new IllegalArgumentException("Cannot book more seats than available");
-        }
-
-        event.setAvailableSeats(newAvailableSeats);
-        event.setUpdatedAt(LocalDateTime.now());
-        event = eventRepository.save(event);
-
-        return convertToEventResponse(event);
-    }
-
-    private EventResponse convertToEventResponse(Event event) {
-        return EventResponse.builder()
-                .id(event.getId())
-                .title(event.getTitle())
-                .description(event.getDescription())
-                .category(event.getCategory())
-                .eventDate(event.getEventDate())
-                .location(event.getLocation())
-                .capacity(event.getCapacity())
-                .availableSeats(event.getAvailableSeats())
-                .price(event.getPrice())
-                .organizerId(event.getOrganizerId())
-                .imageUrl(event.getImageUrl())
-                .status(event.getStatus().name())
-                .createdAt(event.getCreatedAt())
-                .updatedAt(event.getUpdatedAt())
+    // Fallback under heavy contention: each request is its own conditional update
+    private SeatBatchResponse updateSeatsOneByOne(String id, List<Integer> requests) {
+        List<SeatBatchResult> results = new ArrayList<>(requests.size());
+        EventResponse event = null;
+        for (int i = 0; i < requests.size(); i++) {
+            int seats = requests.get(i);
+            try {
+                event = updateSeats(id, seats);
+                results.add(new SeatBatchResult(i, seats, SeatBatchResult.RESERVED, null));
+            } catch (InsufficientSeatsException e) {
+                results.add(new SeatBatchResult(i, seats, SeatBatchResult.REJECTED, null));
+            }
+        }
+        return toBatchResponse(results, event != null ? event : getEventById(id));
+    }
+
+    private static SeatBatchResponse toBatchResponse(List<SeatBatchResult> results, EventResponse event) {
+        int reserved = (int) results.stream().filter(r -> SeatBatchResult.RESERVED.equals(r.getStatus())).count();
+        return SeatBatchResponse.builder()
+                .reserved(reserved)
+                .rejected(results.size() - reserved)
+                .results(results)
+                .event(event)
                 .build();
     }
-}
\ No newline at end of file
+
+    public EventResponse releaseSeats(String id, Integer seatsToRelease) {
+        if (seatLedger.isPresent()) {
+            Event event = seatLedger.get().release(id, seatsToRelease);
+            eventPublisher.publishEvent(CatalogChangeEvent.seatsUpdated(event, -seatsToRelease));
+            return EventMapper.toResponse(event);
+        }
+
+        // Never give back more seats than the event holds
+        Query query = new Query(Criteria.where("id").is(id))
+                .addCriteria(Criteria.expr(ComparisonOperators.Lte
+                        .valueOf(ArithmeticOperators.Add.valueOf("availableSeats").add(seatsToRelease))
+                        .lessThanEqualTo("capacity")));
+        Update update = new Update()
+                .inc("availableSeats", seatsToRelease)
+                .set("updatedAt", LocalDateTime.now());
+
+        Event event = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Event.class);
+        if (event == null) {
+            if (!eventRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Event not found with id: " + id);
+            }
+            throw new BadRequestException("Cannot release more seats than were booked");
+        }
+
+        eventPublisher.publishEvent(CatalogChangeEvent.seatsUpdated(event, -seatsToRelease));
+        return EventMapper.toResponse(event);
+    }
+}
@@ -0,0 +1,158 @@
+package com.eventplanner.eventcatalog.service;
+
+import com.eventplanner.eventcatalog.dto.EventPage;
+import com.eventplanner.eventcatalog.dto.EventRequest;
+import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.dto.EventSummaryResponse;
+import com.eventplanner.eventcatalog.exception.InsufficientSeatsException;
+import com.eventplanner.eventcatalog.exception.ResourceNotFoundException;
+import com.eventplanner.eventcatalog.inventory.SeatLedger;
+import com.eventplanner.eventcatalog.model.Event;
+import com.eventplanner.eventcatalog.repository.ReactiveEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link EventService} used by the {@code reactive} profile.
+ * Writes go through the same conditional updates as the servlet path. Change events
+ * are published on the bounded elastic scheduler because their listeners (caches,
+ * tombstones, the suggestion index) are blocking.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveEventService {
+
+    private final ReactiveEventRepository eventRepository;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final EventService eventService;
+    private final Optional<SeatLedger> seatLedger;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Mono<EventResponse> createEvent(EventRequest request, String organizerId) {
+        return eventRepository.save(eventService.newEvent(request, organizerId))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(event -> eventPublisher.publishEvent(CatalogChangeEvent.created(event)))
+                .map(EventMapper::toResponse);
+    }
+
+    public Mono<EventResponse> updateEvent(String id, EventRequest request) {
+        Event.EventStatus status = EventService.parseStatus(request.getStatus());
+        LocalDateTime now = LocalDateTime.now();
+        Update update = EventService.editableFields(request, status, now);
+
+        return mongoTemplate.findAndModify(new Query(Criteria.where("id").is(id)), update, Event.class)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Event not found with id: " + id)))
+                .publishOn(Schedulers.boundedElastic())
+                .map(previous -> {
+                    Event event = overlay(EventService.applyEdits(previous, request, status, now));
+                    eventPublisher.publishEvent(CatalogChangeEvent.updated(previous, event));
+                    return EventMapper.toResponse(event);
+                });
+    }
+
+    public Mono<EventResponse> getEventById(String id) {
+        return eventRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Event not found with id: " + id)))
+                .map(this::overlay)
+                .map(EventMapper::toResponse);
+    }
+
+    public Flux<EventResponse> getAllEvents() {
+        return eventRepository.findAll().map(EventMapper::toResponse);
+    }
+
+    public Flux<EventResponse> getEventsByCategory(String category) {
+        return eventRepository.findByCategory(category).map(EventMapper::toResponse);
+    }
+
+    public Flux<EventResponse> getEventsByOrganizer(String organizerId) {
+        return eventRepository.findByOrganizerId(organizerId).map(EventMapper::toResponse);
+    }
+
+    public Flux<EventResponse> getUpcomingEvents() {
+        return eventRepository.findByEventDateAfter(LocalDateTime.now()).map(EventMapper::toResponse);
+    }
+
+    public Mono<EventPage> getEventsPage(String category, String organizerId, boolean upcoming, String cursor, Integer size) {
+        int pageSize = eventService.pageSize(size);
+        EventCursor after = cursor == null || cursor.isBlank() ? null : EventCursor.decode(cursor);
+
+        Query query = EventService.listingQuery(category, organizerId, upcoming, after).limit(pageSize + 1);
+        return mongoTemplate.find(query, Event.class)
+                .collectList()
+                .map(events -> EventService.toPage(events, pageSize));
+    }
+
+    public Flux<EventResponse> streamEvents(String category, String organizerId, boolean upcoming) {
+        return mongoTemplate.find(EventService.listingQuery(category, organizerId, upcoming, null), Event.class)
+                .map(EventMapper::toResponse);
+    }
+
+    public Flux<EventSummaryResponse> getAllEventSummaries() {
+        return eventRepository.findSummaryBy().map(EventMapper::toSummary);
+    }
+
+    public Flux<EventSummaryResponse> getEventSummariesByCategory(String category) {
+        return eventRepository.findSummaryByCategory(category).map(EventMapper::toSummary);
+    }
+
+    public Flux<EventSummaryResponse> getEventSummariesByOrganizer(String organizerId) {
+        return eventRepository.findSummaryByOrganizerId(organizerId).map(EventMapper::toSummary);
+    }
+
+    public Flux<EventSummaryResponse> getUpcomingEventSummaries() {
+        return eventRepository.findSummaryByEventDateAfter(LocalDateTime.now()).map(EventMapper::toSummary);
+    }
+
+    public Mono<Void> deleteEvent(String id) {
+        return mongoTemplate.findAndRemove(new Query(Criteria.where("id").is(id)), Event.class)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Event not found with id: " + id)))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(previous -> {
+                    seatLedger.ifPresent(ledger -> ledger.remove(id));
+                    eventPublisher.publishEvent(CatalogChangeEvent.deleted(previous));
+                })
+                .then();
+    }
+
+    public Mono<EventResponse> updateSeats(String id, Integer seatsToBook) {
+        if (seatLedger.isPresent()) {
+            // The ledger loads unknown events with a blocking read, so keep it off the event loop
+            return Mono.fromCallable(() -> eventService.updateSeats(id, seatsToBook))
+                    .subscribeOn(Schedulers.boundedElastic());
+        }
+
+        Query query = new Query(Criteria.where("id").is(id).and("availableSeats").gte(seatsToBook));
+        Update update = new Update()
+                .inc("availableSeats", -seatsToBook)
+                .set("updatedAt", LocalDateTime.now());
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Event.class)
+                .switchIfEmpty(eventRepository.existsById(id).flatMap(exists -> Mono.error(exists
+                        ? new InsufficientSeatsException("Cannot book more seats than available")
+                        : new ResourceNotFoundException("Event not found with id: " + id))))
+                .publishOn(Schedulers.boundedElastic())
+                .map(event -> {
+                    eventPublisher.publishEvent(CatalogChangeEvent.seatsUpdated(event, seatsToBook));
+                    return EventMapper.toResponse(event);
+                });
+    }
+
+    private Event overlay(Event event) {
+        return seatLedger.isPresent() ? seatLedger.get().overlay(event) : event;
+    }
+}
@@ -0,0 +1,176 @@
+package com.eventplanner.eventcatalog.service;
+
+import com.eventplanner.eventcatalog.dto.SeatBatchRequest;
+import com.eventplanner.eventcatalog.dto.SeatBatchResponse;
+import com.eventplanner.eventcatalog.dto.SeatBatchResult;
+import com.eventplanner.eventcatalog.exception.BadRequestException;
+import com.eventplanner.eventcatalog.hold.SeatHoldService;
+import com.eventplanner.eventcatalog.model.SeatRequestRecord;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies batched seat requests, as holds when seat holds are enabled. Requests that
+ * carry a request id are first claimed in {@code seat_requests} with a PENDING record;
+ * only the delivery whose insert wins applies the request and then stores its outcome.
+ * A redelivered request gets the recorded result, or PENDING while the first delivery
+ * is still running, and never takes the seats twice.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatBatchService {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final EventService eventService;
+    private final SeatHoldService seatHoldService;
+    private final MongoTemplate mongoTemplate;
+
+    public SeatBatchResponse reserve(String eventId, SeatBatchRequest request) {
+        List<String> requestIds = request.getRequestIds();
+        if (requestIds == null) {
+            return apply(eventId, request.getRequests());
+        }
+        if (requestIds.size() != request.getRequests().size()) {
+            throw new BadRequestException("requestIds must have one entry per seat request");
+        }
+        if (new HashSet<>(requestIds).size() != requestIds.size()) {
+            throw new BadRequestException("requestIds must be unique within a batch");
+        }
+
+        List<Integer> claimed = claim(eventId, requestIds, request.getRequests());
+        Map<String, SeatRequestRecord> seen = Map.of();
+        if (claimed.size() < requestIds.size()) {
+            List<String> others = new ArrayList<>(requestIds);
+            claimed.forEach(i -> others.remove(requestIds.get(i)));
+            seen = mongoTemplate.find(new Query(Criteria.where("id").in(others)), SeatRequestRecord.class).stream()
+                    .collect(Collectors.toMap(SeatRequestRecord::getId, Function.identity()));
+        }
+
+        SeatBatchResponse applied = null;
+        if (!claimed.isEmpty()) {
+            try {
+                applied = apply(eventId, claimed.stream().map(request.getRequests()::get).toList());
+            } catch (RuntimeException e) {
+                // Nothing was taken, so let the next delivery apply these requests
+                unclaim(claimed.stream().map(requestIds::get).toList());
+                throw e;
+            }
+            recordOutcomes(requestIds, claimed, applied.getResults());
+        }
+
+        List<SeatBatchResult> results = new ArrayList<>(requestIds.size());
+        int next = 0;
+        for (int i = 0; i < requestIds.size(); i++) {
+            if (next < claimed.size() && claimed.get(next) == i) {
+                SeatBatchResult result = applied.getResults().get(next++);
+                results.add(new SeatBatchResult(i, result.getSeats(), result.getStatus(), result.getHoldId()));
+                continue;
+            }
+            SeatRequestRecord previous = seen.get(requestIds.get(i));
+            results.add(previous != null
+                    ? new SeatBatchResult(i, previous.getSeats(), previous.getStatus(), previous.getHoldId())
+                    // Claimed by a delivery that gave it up between our insert and read
+                    : new SeatBatchResult(i, request.getRequests().get(i), SeatBatchResult.PENDING, null));
+        }
+        if (!seen.isEmpty()) {
+            log.info("Replayed {} already claimed seat requests for event {}", seen.size(), eventId);
+        }
+
+        return SeatBatchResponse.builder()
+                .reserved(count(results, SeatBatchResult.RESERVED))
+                .rejected(count(results, SeatBatchResult.REJECTED))
+                .results(results)
+                .event(applied != null ? applied.getEvent() : eventService.getEventById(eventId))
+                .build();
+    }
+
+    private SeatBatchResponse apply(String eventId, List<Integer> requests) {
+        return seatHoldService.isEnabled()
+                ? seatHoldService.holdBatch(eventId, requests)
+                : eventService.updateSeatsBatch(eventId, requests);
+    }
+
+    /** Inserts a PENDING record per request id and returns, in order, the indexes whose insert won. */
+    private List<Integer> claim(String eventId, List<String> requestIds, List<Integer> seats) {
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatRequestRecord> claims = new ArrayList<>(requestIds.size());
+        for (int i = 0; i < requestIds.size(); i++) {
+            claims.add(SeatRequestRecord.builder()
+                    .id(requestIds.get(i))
+                    .eventId(eventId)
+                    .seats(seats.get(i))
+                    .status(SeatBatchResult.PENDING)
+                    .createdAt(now)
+                    .build());
+        }
+
+        Set<Integer> taken = new HashSet<>();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SeatRequestRecord.class)
+                    .insert(claims)
+                    .execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+                taken.add(error.getIndex());
+            }
+        }
+
+        List<Integer> claimed = new ArrayList<>(requestIds.size() - taken.size());
+        for (int i = 0; i < requestIds.size(); i++) {
+            if (!taken.contains(i)) {
+                claimed.add(i);
+            }
+        }
+        return claimed;
+    }
+
+    private void unclaim(List<String> ids) {
+        try {
+            mongoTemplate.remove(new Query(Criteria.where("id").in(ids).and("status").is(SeatBatchResult.PENDING)),
+                    SeatRequestRecord.class);
+        } catch (RuntimeException e) {
+            log.error("Failed to drop {} seat request claims: {}", ids.size(), e.getMessage());
+        }
+    }
+
+    private void recordOutcomes(List<String> requestIds, List<Integer> claimed, List<SeatBatchResult> results) {
+        BulkOperations outcomes = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SeatRequestRecord.class);
+        for (int i = 0; i < claimed.size(); i++) {
+            SeatBatchResult result = results.get(i);
+            outcomes.updateOne(new Query(Criteria.where("id").is(requestIds.get(claimed.get(i)))),
+                    new Update().set("status", result.getStatus()).set("holdId", result.getHoldId()));
+        }
+        try {
+            outcomes.execute();
+        } catch (RuntimeException e) {
+            // The seats are taken; redeliveries keep seeing PENDING until the record expires
+            log.error("Failed to record outcomes of {} seat requests: {}", claimed.size(), e.getMessage());
+        }
+    }
+
+    private static int count(List<SeatBatchResult> results, String status) {
+        return (int) results.stream().filter(r -> status.equals(r.getStatus())).count();
+    }
+}
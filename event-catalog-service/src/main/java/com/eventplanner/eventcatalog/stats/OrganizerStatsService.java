@@ -0,0 +1,265 @@
+package com.eventplanner.eventcatalog.stats;
+
+import com.eventplanner.eventcatalog.dto.EventResponse;
+import com.eventplanner.eventcatalog.dto.EventStatsResponse;
+import com.eventplanner.eventcatalog.dto.OrganizerStatsResponse;
+import com.eventplanner.eventcatalog.dto.StatsRebuildResponse;
+import com.eventplanner.eventcatalog.lifecycle.EventLifecycleSweeper;
+import com.eventplanner.eventcatalog.model.Event;
+import com.eventplanner.eventcatalog.model.OrganizerStats;
+import com.eventplanner.eventcatalog.service.CatalogChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Per-organizer totals kept in {@code organizer_stats}. Every catalog change is turned
+ * into the difference it makes to its organizer's totals; the differences are summed in
+ * memory per organizer and written by {@link #flush()} as one atomic {@code $inc} each,
+ * off the request thread, so reads are a single document lookup and a busy organizer's
+ * document sees one write per flush. A failed write is put back and retried on the next
+ * flush. Totals lag the catalog by up to the flush interval. {@link #rebuild()} recomputes
+ * all totals from {@code events} and {@code events_archive}, one organizer per task; increments that land while
+ * an organizer is being rebuilt can be lost, so run it during quiet periods.
+ */
+@Service
+@Slf4j
+public class OrganizerStatsService {
+
+    private final MongoTemplate mongoTemplate;
+    private final int rebuildParallelism;
+    private final boolean rebuildOnStartup;
+    private final Map<String, Contribution> pending = new ConcurrentHashMap<>();
+    private final Counter failedDeltas;
+
+    public OrganizerStatsService(MongoTemplate mongoTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${catalog.stats.rebuild-parallelism:4}") int rebuildParallelism,
+                                 @Value("${catalog.stats.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.rebuildParallelism = rebuildParallelism;
+        this.rebuildOnStartup = rebuildOnStartup;
+        Gauge.builder("events.stats.pending", pending, Map::size)
+                .description("Organizers with stats changes not yet written")
+                .register(meterRegistry);
+        this.failedDeltas = Counter.builder("events.stats.flush.failures")
+                .description("Organizer stats writes that failed and were put back for retry")
+                .register(meterRegistry);
+    }
+
+    public OrganizerStatsResponse getOrganizerStats(String organizerId) {
+        OrganizerStats stats = mongoTemplate.findById(organizerId, OrganizerStats.class);
+        if (stats == null) {
+            stats = OrganizerStats.builder().organizerId(organizerId).build();
+        }
+        return OrganizerStatsResponse.builder()
+                .organizerId(organizerId)
+                .events(stats.getEvents())
+                .totalCapacity(stats.getTotalCapacity())
+                .seatsSold(stats.getSeatsSold())
+                .fillRate(stats.getTotalCapacity() > 0 ? (double) stats.getSeatsSold() / stats.getTotalCapacity() : 0)
+                .revenue(stats.getRevenue())
+                .updatedAt(stats.getUpdatedAt())
+                .build();
+    }
+
+    public static EventStatsResponse getEventStats(EventResponse event) {
+        int capacity = event.getCapacity() == null ? 0 : event.getCapacity();
+        int available = event.getAvailableSeats() == null ? capacity : event.getAvailableSeats();
+        int sold = capacity - available;
+        return EventStatsResponse.builder()
+                .eventId(event.getId())
+                .organizerId(event.getOrganizerId())
+                .capacity(capacity)
+                .seatsSold(sold)
+                .fillRate(capacity > 0 ? (double) sold / capacity : 0)
+                .revenue(event.getPrice() == null ? 0 : sold * event.getPrice())
+                .build();
+    }
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent change) {
+        switch (change.type()) {
+            case CREATED -> add(change.current().getOrganizerId(), Contribution.of(change.current()));
+            case UPDATED -> add(change.current().getOrganizerId(),
+                    Contribution.of(change.current()).minus(Contribution.of(change.previous())));
+            case SEATS_UPDATED -> add(change.current().getOrganizerId(),
+                    new Contribution(0, 0, change.seats(), change.seats() * price(change.current())));
+            case DELETED -> add(change.previous().getOrganizerId(),
+                    Contribution.zero().minus(Contribution.of(change.previous())));
+            // Archived events keep counting; rebuild() reads events_archive as well
+            case ARCHIVED -> {
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.stats.flush-ms:1000}")
+    @PreDestroy
+    public void flush() {
+        for (String organizerId : pending.keySet()) {
+            Contribution delta = pending.remove(organizerId);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                apply(organizerId, delta);
+            } catch (RuntimeException e) {
+                add(organizerId, delta);
+                failedDeltas.increment();
+                log.warn("Could not update organizer stats for {}: {}", organizerId, e.getMessage());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (rebuildOnStartup && !mongoTemplate.exists(new Query(), OrganizerStats.class)
+                    && mongoTemplate.exists(new Query(), Event.class)) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to build organizer stats: {}", e.getMessage());
+        }
+    }
+
+    public StatsRebuildResponse rebuild() {
+        long start = System.currentTimeMillis();
+        Set<String> distinct = new HashSet<>(mongoTemplate.findDistinct(new Query(), "organizerId", Event.class, String.class));
+        distinct.addAll(mongoTemplate.findDistinct(new Query(), "organizerId",
+                EventLifecycleSweeper.ARCHIVE_COLLECTION, Event.class, String.class));
+        List<String> organizers = new ArrayList<>(distinct);
+
+        ExecutorService pool = Executors.newFixedThreadPool(rebuildParallelism);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (String organizerId : organizers) {
+                tasks.add(pool.submit(() -> rebuildOrganizer(organizerId)));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Organizer stats rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Organizer stats rebuild failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        mongoTemplate.remove(new Query(Criteria.where("organizerId").nin(organizers)), OrganizerStats.class);
+
+        long duration = System.currentTimeMillis() - start;
+        log.info("Rebuilt stats for {} organizers in {} ms", organizers.size(), duration);
+        return StatsRebuildResponse.builder()
+                .organizers(organizers.size())
+                .durationMs(duration)
+                .build();
+    }
+
+    private void rebuildOrganizer(String organizerId) {
+        ArithmeticOperators.Subtract sold = ArithmeticOperators.Subtract.valueOf("capacity").subtract("availableSeats");
+        TypedAggregation<Event> aggregation = Aggregation.newAggregation(Event.class,
+                Aggregation.match(Criteria.where("organizerId").is(organizerId)),
+                Aggregation.group().count().as("events")
+                        .sum("capacity").as("totalCapacity")
+                        .sum(sold).as("seatsSold")
+                        .sum(ArithmeticOperators.Multiply.valueOf(sold).multiplyBy("price")).as("revenue"));
+        Contribution totals = Contribution.zero();
+        for (String collection : List.of(mongoTemplate.getCollectionName(Event.class), EventLifecycleSweeper.ARCHIVE_COLLECTION)) {
+            Document sums = mongoTemplate.aggregate(aggregation, collection, Document.class).getUniqueMappedResult();
+            if (sums != null) {
+                totals = totals.plus(new Contribution(((Number) sums.get("events")).longValue(),
+                        ((Number) sums.get("totalCapacity")).longValue(),
+                        ((Number) sums.get("seatsSold")).longValue(),
+                        ((Number) sums.get("revenue")).doubleValue()));
+            }
+        }
+        if (totals.events() == 0) {
+            return;
+        }
+        mongoTemplate.save(OrganizerStats.builder()
+                .organizerId(organizerId)
+                .events(totals.events())
+                .totalCapacity(totals.capacity())
+                .seatsSold(totals.seatsSold())
+                .revenue(totals.revenue())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void add(String organizerId, Contribution delta) {
+        if (organizerId != null && !delta.equals(Contribution.zero())) {
+            pending.merge(organizerId, delta, Contribution::plus);
+        }
+    }
+
+    private void apply(String organizerId, Contribution delta) {
+        if (delta.equals(Contribution.zero())) {
+            return;
+        }
+        mongoTemplate.upsert(new Query(Criteria.where("organizerId").is(organizerId)),
+                new Update()
+                        .inc("events", delta.events())
+                        .inc("totalCapacity", delta.capacity())
+                        .inc("seatsSold", delta.seatsSold())
+                        .inc("revenue", delta.revenue())
+                        .set("updatedAt", LocalDateTime.now()),
+                OrganizerStats.class);
+    }
+
+    private static double price(Event event) {
+        return event.getPrice() == null ? 0 : event.getPrice();
+    }
+
+    /** What a single event adds to its organizer's totals. */
+    private record Contribution(long events, long capacity, long seatsSold, double revenue) {
+
+        static Contribution zero() {
+            return new Contribution(0, 0, 0, 0);
+        }
+
+        static Contribution of(Event event) {
+            int capacity = event.getCapacity() == null ? 0 : event.getCapacity();
+            int available = event.getAvailableSeats() == null ? capacity : event.getAvailableSeats();
+            return new Contribution(1, capacity, capacity - available, (capacity - available) * price(event));
+        }
+
+        Contribution plus(Contribution other) {
+            return new Contribution(events + other.events, capacity + other.capacity,
+                    seatsSold + other.seatsSold, revenue + other.revenue);
+        }
+
+        Contribution minus(Contribution other) {
+            return new Contribution(events - other.events, capacity - other.capacity,
+                    seatsSold - other.seatsSold, revenue - other.revenue);
+        }
+    }
+}
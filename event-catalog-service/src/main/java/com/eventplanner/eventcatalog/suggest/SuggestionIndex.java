@@ -0,0 +1,233 @@
+package com.eventplanner.eventcatalog.suggest;
+
+import com.eventplanner.eventcatalog.dto.SuggestionResponse;
+import com.eventplanner.eventcatalog.model.Event;
+import com.eventplanner.eventcatalog.service.CatalogChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Sorted in-memory prefix index over event titles, categories and locations.
+ * Keys are normalized terms, so a prefix lookup is a range scan of the skip list.
+ * Every word of a title is also indexed as the start of a key, so "jazz" finds
+ * "Blue Note Jazz Night". Lookups are lock-free; writes are serialized and applied
+ * incrementally from {@link CatalogChangeEvent}s.
+ */
+@Component
+@Slf4j
+public class SuggestionIndex {
+
+    private static final char SEPARATOR = '\u0000';
+    // Events that can no longer be booked are not suggested
+    private static final Set<Event.EventStatus> HIDDEN_STATUSES =
+            EnumSet.of(Event.EventStatus.CANCELLED, Event.EventStatus.COMPLETED);
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    // Rough per-entry overhead of a skip list node plus the entry object
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final MongoTemplate mongoTemplate;
+    private final int maxEntries;
+    private final int maxScan;
+
+    private final NavigableMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<Term>> termsByEvent = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final Counter dropped;
+    private final Timer lookups;
+
+    public SuggestionIndex(MongoTemplate mongoTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${catalog.suggest.max-entries:500000}") int maxEntries,
+                           @Value("${catalog.suggest.max-scan:2000}") int maxScan) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxEntries = maxEntries;
+        this.maxScan = maxScan;
+
+        Gauge.builder("events.suggest.entries", entries, Map::size)
+                .description("Terms held by the suggestion index")
+                .register(meterRegistry);
+        Gauge.builder("events.suggest.memory", estimatedBytes, AtomicLong::get)
+                .description("Estimated heap used by the suggestion index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("events.suggest.dropped")
+                .description("Terms not indexed because the index was full")
+                .register(meterRegistry);
+        this.lookups = Timer.builder("events.suggest.lookup")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Query query = new Query(Criteria.where("status").nin(HIDDEN_STATUSES));
+        query.fields().include("title", "category", "location", "status");
+        try (Stream<Event> events = mongoTemplate.stream(query, Event.class)) {
+            events.forEach(this::index);
+            log.info("Suggestion index built with {} entries", entries.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to build suggestion index: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent change) {
+        switch (change.type()) {
+            case CREATED, UPDATED -> {
+                if (HIDDEN_STATUSES.contains(change.current().getStatus())) {
+                    remove(change.eventId());
+                } else {
+                    index(change.current());
+                }
+            }
+            case DELETED, ARCHIVED -> remove(change.eventId());
+            default -> {
+            }
+        }
+    }
+
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        return lookups.record(() -> lookup(prefix, limit));
+    }
+
+    private List<SuggestionResponse> lookup(String prefix, int limit) {
+        String from = normalize(prefix);
+        if (from.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, SuggestionResponse> matches = new HashMap<>();
+        int scanned = 0;
+        for (Entry entry : entries.subMap(from, true, from + Character.MAX_VALUE, false).values()) {
+            if (++scanned > maxScan) {
+                break;
+            }
+            matches.merge(entry.type + SEPARATOR + entry.display,
+                    new SuggestionResponse(entry.display, entry.type, entry.events),
+                    (a, b) -> a.getEvents() >= b.getEvents() ? a : b);
+        }
+
+        return matches.values().stream()
+                .sorted(Comparator.comparingInt(SuggestionResponse::getEvents).reversed()
+                        .thenComparingInt(s -> s.getText().length()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private synchronized void index(Event event) {
+        // Only terms that made it into the index are recorded, so release never touches another event's entry
+        Set<Term> terms = new LinkedHashSet<>();
+        for (Term term : termsFor(event)) {
+            if (acquire(term)) {
+                terms.add(term);
+            }
+        }
+        Set<Term> previous = termsByEvent.put(event.getId(), terms);
+        if (previous != null) {
+            previous.forEach(this::release);
+        }
+    }
+
+    private synchronized void remove(String eventId) {
+        Set<Term> previous = termsByEvent.remove(eventId);
+        if (previous != null) {
+            previous.forEach(this::release);
+        }
+    }
+
+    private boolean acquire(Term term) {
+        Entry entry = entries.get(term.key());
+        if (entry != null) {
+            entry.events++;
+            return true;
+        }
+        if (entries.size() >= maxEntries) {
+            dropped.increment();
+            return false;
+        }
+        entries.put(term.key(), new Entry(term.display(), term.type()));
+        estimatedBytes.addAndGet(sizeOf(term));
+        return true;
+    }
+
+    private void release(Term term) {
+        Entry entry = entries.get(term.key());
+        if (entry != null && --entry.events <= 0) {
+            entries.remove(term.key());
+            estimatedBytes.addAndGet(-sizeOf(term));
+        }
+    }
+
+    private Set<Term> termsFor(Event event) {
+        Set<Term> terms = new LinkedHashSet<>();
+        if (event.getTitle() != null) {
+            String title = normalize(event.getTitle());
+            String display = event.getTitle().trim();
+            String[] words = title.split(" ");
+            for (int i = 0; i < words.length; i++) {
+                String suffix = String.join(" ", Arrays.copyOfRange(words, i, words.length));
+                terms.add(new Term(suffix + SEPARATOR + "TITLE" + SEPARATOR + title, display, "TITLE"));
+            }
+        }
+        if (event.getCategory() != null) {
+            terms.add(new Term(normalize(event.getCategory()) + SEPARATOR + "CATEGORY",
+                    event.getCategory().trim(), "CATEGORY"));
+        }
+        if (event.getLocation() != null) {
+            terms.add(new Term(normalize(event.getLocation()) + SEPARATOR + "LOCATION",
+                    event.getLocation().trim(), "LOCATION"));
+        }
+        return terms;
+    }
+
+    private static String normalize(String text) {
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(stripped.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+
+    private static long sizeOf(Term term) {
+        return 2L * (term.key().length() + term.display().length()) + ENTRY_OVERHEAD_BYTES;
+    }
+
+    private record Term(String key, String display, String type) {}
+
+    private static final class Entry {
+        private final String display;
+        private final String type;
+        private volatile int events = 1;
+
+        private Entry(String display, String type) {
+            this.display = display;
+            this.type = type;
+        }
+    }
+}
@@ -113,6 +113,10 @@ public class PaymentService {
                     .block();
 
             log.info("Booking confirmed: {}, transactionId: {}", bookingId, transactionId);
+        } catch (WebClientResponseException.Conflict e) {
+            // Rolls the payment back so the booking is never left charged but unconfirmed
+            log.warn("Booking {} refused confirmation: {}", bookingId, e.getResponseBodyAsString());
+            throw new InvalidBookingStateException("Booking cannot be confirmed yet, payment was not taken: " + bookingId);
         } catch (Exception e) {
             log.error("Failed to confirm booking: {}", e.getMessage());
 